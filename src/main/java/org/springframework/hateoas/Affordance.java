@@ -15,16 +15,21 @@
  */
 package org.springframework.hateoas;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
- * Hold the {@link AffordanceModel}s for all supported media types.
+ * Hold the {@link AffordanceModel}s for all supported media types. The models might be created lazily on first
+ * lookup, so that only the ones for the media types actually rendered are ever built.
  *
  * @author Greg Turnquist
  * @author Oliver Gierke
@@ -34,10 +39,34 @@ public final class Affordance implements Iterable<AffordanceModel> {
 	/**
 	 * Collection of {@link AffordanceModel}s related to this affordance.
 	 */
-	private final Map<MediaType, AffordanceModel> models;
+	private final Map<MediaType, Supplier<? extends AffordanceModel>> models;
 
 	public Affordance(Map<MediaType, AffordanceModel> models) {
-		this.models = models;
+
+		Assert.notNull(models, "Models must not be null!");
+
+		this.models = new HashMap<>(models.size());
+
+		models.forEach((mediaType, model) -> this.models.put(mediaType, SingletonSupplier.of(model)));
+	}
+
+	/**
+	 * Creates a new {@link Affordance} for the given {@link AffordanceModel} {@link Supplier}s. Each {@link Supplier}
+	 * is invoked once at most, when the model for its {@link MediaType} is first requested.
+	 *
+	 * @param models must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	public static Affordance lazy(Map<MediaType, ? extends Supplier<? extends AffordanceModel>> models) {
+
+		Assert.notNull(models, "Models must not be null!");
+
+		Affordance affordance = new Affordance(Collections.emptyMap());
+
+		models.forEach((mediaType, supplier) -> affordance.models.put(mediaType, SingletonSupplier.of(supplier)));
+
+		return affordance;
 	}
 
 	/**
@@ -49,7 +78,10 @@ public final class Affordance implements Iterable<AffordanceModel> {
 	@Nullable
 	@SuppressWarnings("unchecked")
 	public <T extends AffordanceModel> T getAffordanceModel(MediaType mediaType) {
-		return (T) this.models.get(mediaType);
+
+		Supplier<? extends AffordanceModel> model = this.models.get(mediaType);
+
+		return model == null ? null : (T) model.get();
 	}
 
 	/**
@@ -75,11 +107,16 @@ public final class Affordance implements Iterable<AffordanceModel> {
 	 */
 	@Override
 	public Iterator<AffordanceModel> iterator() {
-		return this.models.values().iterator();
+		return getModels().values().iterator();
 	}
 
 	Map<MediaType, AffordanceModel> getModels() {
-		return this.models;
+
+		Map<MediaType, AffordanceModel> result = new HashMap<>(this.models.size());
+
+		this.models.forEach((mediaType, model) -> result.put(mediaType, model.get()));
+
+		return result;
 	}
 
 	@Override
@@ -92,16 +129,16 @@ public final class Affordance implements Iterable<AffordanceModel> {
 			return false;
 		}
 		Affordance that = (Affordance) o;
-		return Objects.equals(this.models, that.models);
+		return Objects.equals(getModels(), that.getModels());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.models);
+		return Objects.hash(getModels());
 	}
 
 	@Override
 	public String toString() {
-		return "Affordance(models=" + this.models + ")";
+		return "Affordance(models=" + getModels() + ")";
 	}
 }
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO to implement binding response representations of collections navigated by opaque cursors (a.k.a. keyset or
+ * seek pagination). In contrast to {@link PagedModel}, no total number of elements is exposed, so that it doesn't
+ * have to be calculated for every request.
+ *
+ * @author agent
+ * @since 3.2
+ * @see #addCursorLinks(UriTemplate, String)
+ */
+public class CursorModel<T> extends CollectionModel<T> {
+
+	public static CursorModel<?> NO_CURSOR = new CursorModel<>();
+
+	private final @Nullable CursorMetadata metadata;
+	private final @Nullable ResolvableType fallbackType;
+
+	/**
+	 * Default constructor to allow instantiation by reflection.
+	 */
+	protected CursorModel() {
+		this(new ArrayList<>(), null);
+	}
+
+	protected CursorModel(Collection<T> content, @Nullable CursorMetadata metadata) {
+		this(content, metadata, Links.NONE);
+	}
+
+	protected CursorModel(Collection<T> content, @Nullable CursorMetadata metadata, Iterable<Link> links) {
+		this(content, metadata, links, null);
+	}
+
+	protected CursorModel(Collection<T> content, @Nullable CursorMetadata metadata, Iterable<Link> links,
+			@Nullable ResolvableType fallbackType) {
+
+		super(content, links, fallbackType);
+
+		this.metadata = metadata;
+		this.fallbackType = fallbackType;
+	}
+
+	/**
+	 * Creates an empty {@link CursorModel}.
+	 *
+	 * @param <T> the payload type.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> CursorModel<T> empty() {
+		return empty((CursorMetadata) null);
+	}
+
+	/**
+	 * Creates an empty {@link CursorModel} with the given fallback type.
+	 *
+	 * @param <T> the payload type.
+	 * @param fallbackElementType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #withFallbackType(ResolvableType)
+	 */
+	public static <T> CursorModel<T> empty(ResolvableType fallbackElementType) {
+
+		Assert.notNull(fallbackElementType, "Fallback type must not be null!");
+
+		return new CursorModel<>(Collections.emptyList(), null, Links.NONE, fallbackElementType);
+	}
+
+	/**
+	 * Creates an empty {@link CursorModel} with the given {@link CursorMetadata}.
+	 *
+	 * @param <T> the payload type.
+	 * @param metadata can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> CursorModel<T> empty(@Nullable CursorMetadata metadata) {
+		return of(Collections.emptyList(), metadata);
+	}
+
+	/**
+	 * Creates a new {@link CursorModel} from the given content and {@link CursorMetadata}.
+	 *
+	 * @param <T> the payload type.
+	 * @param content must not be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> CursorModel<T> of(Collection<T> content, @Nullable CursorMetadata metadata) {
+		return new CursorModel<>(content, metadata);
+	}
+
+	/**
+	 * Creates a new {@link CursorModel} from the given content, {@link CursorMetadata} and {@link Link}s.
+	 *
+	 * @param <T> the payload type.
+	 * @param content must not be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> CursorModel<T> of(Collection<T> content, @Nullable CursorMetadata metadata, Link... links) {
+		return new CursorModel<>(content, metadata, Arrays.asList(links));
+	}
+
+	/**
+	 * Creates a new {@link CursorModel} from the given content, {@link CursorMetadata} and {@link Link}s.
+	 *
+	 * @param <T> the payload type.
+	 * @param content must not be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static <T> CursorModel<T> of(Collection<T> content, @Nullable CursorMetadata metadata, Iterable<Link> links) {
+		return new CursorModel<>(content, metadata, links);
+	}
+
+	/**
+	 * Factory method to easily create a {@link CursorModel} instance from a set of entities and cursor metadata.
+	 *
+	 * @param <T> the nested {@link EntityModel} type.
+	 * @param <S> the actual payload type.
+	 * @param content must not be {@literal null}.
+	 * @param metadata can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends EntityModel<S>, S> CursorModel<T> wrap(Iterable<S> content,
+			@Nullable CursorMetadata metadata) {
+
+		Assert.notNull(content, "Content must not be null!");
+
+		List<T> resources = new ArrayList<>();
+
+		for (S element : content) {
+			resources.add((T) EntityModel.of(element));
+		}
+
+		return CursorModel.of(resources, metadata);
+	}
+
+	/**
+	 * Returns the cursor metadata.
+	 *
+	 * @return the metadata can be {@literal null}.
+	 */
+	@JsonProperty("cursor")
+	public @Nullable CursorMetadata getMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * Returns the {@link Link} pointing to the next set of elements (if set).
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@JsonIgnore
+	public Optional<Link> getNextLink() {
+		return getLink(IanaLinkRelations.NEXT);
+	}
+
+	/**
+	 * Returns the {@link Link} pointing to the previous set of elements (if set).
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@JsonIgnore
+	public Optional<Link> getPreviousLink() {
+		return getLink(IanaLinkRelations.PREV);
+	}
+
+	/**
+	 * Adds {@link IanaLinkRelations#NEXT} and {@link IanaLinkRelations#PREV} links for the cursors contained in the
+	 * current {@link CursorMetadata} by expanding the given {@link UriTemplate}. Prefer to declare the template once
+	 * (e.g. in a constant) to avoid parsing it for every request.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param cursorVariable the name of the template variable to expand the cursor into, must not be {@literal null} or
+	 *          empty.
+	 * @return the current instance.
+	 */
+	public CursorModel<T> addCursorLinks(UriTemplate template, String cursorVariable) {
+		return addCursorLinks(template, cursorVariable, Collections.emptyMap());
+	}
+
+	/**
+	 * Adds {@link IanaLinkRelations#NEXT} and {@link IanaLinkRelations#PREV} links for the cursors contained in the
+	 * current {@link CursorMetadata} by expanding the given {@link UriTemplate} using the given additional parameters.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param cursorVariable the name of the template variable to expand the cursor into, must not be {@literal null} or
+	 *          empty.
+	 * @param parameters additional parameters to expand the template with, must not be {@literal null}.
+	 * @return the current instance.
+	 */
+	public CursorModel<T> addCursorLinks(UriTemplate template, String cursorVariable, Map<String, ?> parameters) {
+
+		Assert.notNull(template, "UriTemplate must not be null!");
+		Assert.hasText(cursorVariable, "Cursor variable must not be null or empty!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		if (metadata == null) {
+			return this;
+		}
+
+		String next = metadata.getNext();
+
+		if (next != null) {
+			add(Link.of(expand(template, cursorVariable, next, parameters), IanaLinkRelations.NEXT));
+		}
+
+		String previous = metadata.getPrevious();
+
+		if (previous != null) {
+			add(Link.of(expand(template, cursorVariable, previous, parameters), IanaLinkRelations.PREV));
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.CollectionModel#withFallbackType(java.lang.Class, java.lang.Class[])
+	 */
+	@Override
+	public CursorModel<T> withFallbackType(Class<? super T> type, Class<?>... generics) {
+		return withFallbackType(ResolvableType.forClassWithGenerics(type, generics));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.CollectionModel#withFallbackType(org.springframework.core.ParameterizedTypeReference)
+	 */
+	@Override
+	public CursorModel<T> withFallbackType(ParameterizedTypeReference<?> type) {
+		return withFallbackType(ResolvableType.forType(type));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.CollectionModel#withFallbackType(org.springframework.core.ResolvableType)
+	 */
+	@Override
+	public CursorModel<T> withFallbackType(ResolvableType type) {
+		return new CursorModel<>(getContent(), metadata, getLinks(), type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.CollectionModel#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("CursorModel { content: %s, fallbackType: %s, metadata: %s, links: %s }", //
+				getContent(), fallbackType, metadata, getLinks());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.CollectionModel#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(@Nullable Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || !getClass().equals(obj.getClass())) {
+			return false;
+		}
+
+		CursorModel<?> that = (CursorModel<?>) obj;
+
+		return Objects.equals(this.metadata, that.metadata) //
+				&& super.equals(obj);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.CollectionModel#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return super.hashCode() + Objects.hash(metadata);
+	}
+
+	private static String expand(UriTemplate template, String cursorVariable, String cursor,
+			Map<String, ?> parameters) {
+
+		Map<String, Object> values = new HashMap<>(parameters);
+		values.put(cursorVariable, cursor);
+
+		return template.expand(values).toString();
+	}
+
+	/**
+	 * Value object for cursor metadata. The cursors are opaque tokens, usually encoding the sort key of the last (or
+	 * first) element returned, so that the next request can seek to it directly.
+	 *
+	 * @author agent
+	 */
+	@JsonInclude(Include.NON_NULL)
+	public static class CursorMetadata {
+
+		@JsonProperty //
+		private long size;
+
+		@JsonProperty //
+		private @Nullable String next;
+
+		@JsonProperty //
+		private @Nullable String previous;
+
+		protected CursorMetadata() {}
+
+		/**
+		 * Creates a new {@link CursorMetadata} from the given size and cursors.
+		 *
+		 * @param size must be greater or equal to zero.
+		 * @param next the cursor to obtain the next set of elements, {@literal null} if there are none.
+		 * @param previous the cursor to obtain the previous set of elements, {@literal null} if there are none.
+		 */
+		public CursorMetadata(long size, @Nullable String next, @Nullable String previous) {
+
+			Assert.isTrue(size > -1, "Size must not be negative!");
+
+			this.size = size;
+			this.next = next;
+			this.previous = previous;
+		}
+
+		/**
+		 * Returns the requested number of elements.
+		 *
+		 * @return the size a positive long.
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the cursor pointing to the next set of elements.
+		 *
+		 * @return can be {@literal null}.
+		 */
+		public @Nullable String getNext() {
+			return next;
+		}
+
+		/**
+		 * Returns the cursor pointing to the previous set of elements.
+		 *
+		 * @return can be {@literal null}.
+		 */
+		public @Nullable String getPrevious() {
+			return previous;
+		}
+
+		/**
+		 * Returns whether there's a next set of elements.
+		 *
+		 * @return
+		 */
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		/**
+		 * Returns whether there's a previous set of elements.
+		 *
+		 * @return
+		 */
+		public boolean hasPrevious() {
+			return previous != null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("Metadata: { size: %d, next: %s, previous: %s }", size, next, previous);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (obj == null || !obj.getClass().equals(getClass())) {
+				return false;
+			}
+
+			CursorMetadata that = (CursorMetadata) obj;
+
+			return this.size == that.size //
+					&& Objects.equals(this.next, that.next) //
+					&& Objects.equals(this.previous, that.previous);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(size, next, previous);
+		}
+	}
+}
@@ -39,7 +39,11 @@ import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CursorModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.SlicedModel;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.ClassUtils;
 
@@ -52,11 +56,14 @@ import org.springframework.util.ClassUtils;
 class AotUtils {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AotUtils.class);
+	private static final Set<Class<?>> LIBRARY_MODEL_TYPES = Set.of(RepresentationModel.class, EntityModel.class,
+			CollectionModel.class, PagedModel.class, SlicedModel.class, CursorModel.class);
 	private static final List<Class<?>> MODEL_TYPES = List.of(EntityModel.class, CollectionModel.class);
 	private static final Set<Class<?>> SEEN_TYPES = new HashSet<>();
 
 	/**
-	 * Registers domain types held in {@link EntityModel} and {@link CollectionModel}s for reflection.
+	 * Registers domain types held in {@link EntityModel} and {@link CollectionModel}s as well as custom
+	 * {@link RepresentationModel} subtypes for reflection.
 	 *
 	 * @param type must not be {@literal null}.
 	 * @param reflection must not be {@literal null}.
@@ -65,10 +72,17 @@ class AotUtils {
 	public static void registerModelDomainTypesForReflection(ResolvableType type, ReflectionHints reflection,
 			Class<?> context) {
 
-		if (HttpEntity.class.isAssignableFrom(type.resolve(Object.class))) {
+		Class<?> resolved = type.resolve(Object.class);
+
+		if (HttpEntity.class.isAssignableFrom(resolved)) {
 			registerModelDomainTypesForReflection(type.as(HttpEntity.class).getGeneric(0), reflection, context);
 		}
 
+		// Custom model types, the library ones are registered via HateoasTypesRuntimeHints
+		if (RepresentationModel.class.isAssignableFrom(resolved) && !LIBRARY_MODEL_TYPES.contains(resolved)) {
+			registerTypeForReflection(resolved, reflection, context);
+		}
+
 		MODEL_TYPES.stream()
 				.flatMap(it -> extractGenerics(it, type).stream())
 				.forEach(it -> registerTypeForReflection(it, reflection, context));
@@ -46,7 +46,9 @@ import org.springframework.util.ReflectionUtils;
 
 /**
  * A {@link BeanRegistrationAotProcessor} that contributes proxy types for return types of controller methods so that
- * can be pointed to by {@link DummyInvocationUtils}, i.e. creating links via fake method invocations.
+ * can be pointed to by {@link DummyInvocationUtils}, i.e. creating links via fake method invocations. Also generates
+ * code to register the request mapping metadata of the controller's handler methods in
+ * {@link org.springframework.hateoas.server.core.PrecomputedMappings} to avoid inspecting them at runtime.
  *
  * @author Christoph Strobl
  * @author Oliver Drotbohm
@@ -88,7 +90,8 @@ public class ControllerMethodReturnTypeAotProcessor implements BeanRegistrationA
 		var beanClass = registeredBean.getBeanClass();
 
 		return AnnotatedElementUtils.isAnnotated(beanClass, controllerAnnotationType)
-				? new ProxyRegisteringAotContribution(beanClass)
+				? BeanRegistrationAotContribution.concat(new ProxyRegisteringAotContribution(beanClass),
+						new LinkMetadataAotContribution(beanClass))
 				: null;
 	}
 
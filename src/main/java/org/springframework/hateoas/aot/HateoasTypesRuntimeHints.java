@@ -27,7 +27,8 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.core.LastInvocationAware;
 
 /**
- * Registers reflection metadata for {@link RepresentationModel} types.
+ * Registers reflection metadata for {@link RepresentationModel} types and the other types of the core package that
+ * Jackson needs to introspect.
  *
  * @author Oliver Drotbohm
  */
@@ -40,10 +41,8 @@ class HateoasTypesRuntimeHints implements RuntimeHintsRegistrar {
 	@Override
 	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
 
-		var packageName = RepresentationModel.class.getPackageName();
-		var reflection = hints.reflection();
-
-		AotUtils.registerTypesForReflection(packageName, reflection);
+		// Only the types Jackson actually needs to introspect
+		new HypermediaTypesRuntimeHints(RepresentationModel.class.getPackageName()).registerHints(hints, classLoader);
 
 		// Proxy metadata for DummyInvocationUtils
 		hints.proxies()
@@ -16,6 +16,8 @@
 package org.springframework.hateoas.aot;
 
 import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
@@ -27,6 +29,7 @@ import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AbstractTypeHierarchyTraversingFilter;
 import org.springframework.core.type.filter.TypeFilter;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link RuntimeHintsRegistrar} to register Jackson model types for hypermedia types.
@@ -89,7 +92,34 @@ class HypermediaTypesRuntimeHints implements RuntimeHintsRegistrar {
 							.flatMap(it -> it.getAnnotations().stream())
 							.map(MergedAnnotation::getType)
 							.map(Class::getName)
-							.anyMatch(IS_JACKSON_ANNOTATION);
+							.anyMatch(IS_JACKSON_ANNOTATION)
+
+					// Field annotations
+					|| hasJacksonAnnotatedField(reader.getClassMetadata().getClassName());
+		}
+
+		/**
+		 * Returns whether the type with the given name declares a field carrying a Jackson annotation. As
+		 * {@link MetadataReader} does not expose any field metadata, the type has to be loaded for that.
+		 *
+		 * @param typeName must not be {@literal null} or empty.
+		 * @return
+		 */
+		private static boolean hasJacksonAnnotatedField(String typeName) {
+
+			try {
+
+				Class<?> type = ClassUtils.forName(typeName, HypermediaTypesRuntimeHints.class.getClassLoader());
+
+				return Arrays.stream(type.getDeclaredFields()) //
+						.flatMap(it -> Arrays.stream(it.getDeclaredAnnotations())) //
+						.map(Annotation::annotationType) //
+						.map(Class::getName) //
+						.anyMatch(IS_JACKSON_ANNOTATION);
+
+			} catch (ClassNotFoundException | LinkageError o_O) {
+				return false;
+			}
 		}
 	}
 
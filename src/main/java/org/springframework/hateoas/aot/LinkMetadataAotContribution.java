@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.aot;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import javax.lang.model.element.Modifier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.server.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.server.core.PrecomputedMappings;
+import org.springframework.hateoas.server.core.UriMapping;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * AOT contribution that generates code to register the request mapping metadata of all handler methods of a controller
+ * in {@link PrecomputedMappings} once the controller is instantiated, so that link building doesn't need to inspect
+ * the mapping annotations at runtime.
+ *
+ * @author agent
+ * @since 3.2
+ */
+class LinkMetadataAotContribution implements BeanRegistrationAotContribution {
+
+	private static final AnnotationMappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
+
+	private final Class<?> beanClass;
+
+	/**
+	 * Creates a new {@link LinkMetadataAotContribution} for the given controller class.
+	 *
+	 * @param beanClass must not be {@literal null}.
+	 */
+	LinkMetadataAotContribution(Class<?> beanClass) {
+
+		Assert.notNull(beanClass, "Bean class must not be null!");
+
+		this.beanClass = beanClass;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.aot.BeanRegistrationAotContribution#applyTo(org.springframework.aot.generate.GenerationContext, org.springframework.beans.factory.aot.BeanRegistrationCode)
+	 */
+	@Override
+	public void applyTo(GenerationContext generationContext, BeanRegistrationCode beanRegistrationCode) {
+
+		if (java.lang.reflect.Modifier.isPrivate(beanClass.getModifiers())) {
+			return;
+		}
+
+		Set<Method> methods = MethodIntrospector.selectMethods(beanClass,
+				(Method it) -> AnnotatedElementUtils.hasAnnotation(it, RequestMapping.class));
+
+		if (methods.isEmpty()) {
+			return;
+		}
+
+		var generatedClass = generationContext.getGeneratedClasses() //
+				.addForFeatureComponent("LinkMetadata", beanClass, type -> {
+					type.addJavadoc("Request mapping metadata of {@link $T} for link building.", beanClass);
+					type.addModifiers(Modifier.PUBLIC);
+				});
+
+		GeneratedMethod generatedMethod = generatedClass.getMethods().add("registerMappings", method -> {
+
+			method.addJavadoc("Registers the request mapping metadata of the handler methods of the given instance.");
+			method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+			method.addParameter(RegisteredBean.class, "registeredBean");
+			method.addParameter(beanClass, "instance");
+			method.returns(beanClass);
+
+			method.addStatement("$T.register($T.class, $S)", PrecomputedMappings.class, beanClass,
+					getMapping(DISCOVERER.getUriMapping(beanClass)));
+
+			int index = 0;
+
+			for (Method handlerMethod : methods) {
+
+				String variable = "method" + index++;
+				String[] requestMethods = toStrings(DISCOVERER.getRequestMethod(beanClass, handlerMethod));
+				String[] consumes = toStrings(DISCOVERER.getConsumes(handlerMethod));
+				String[] params = DISCOVERER.getParams(handlerMethod);
+
+				method.addStatement("$T $L = $T.findMethod($T.class, $S$L)", Method.class, variable,
+						PrecomputedMappings.class, beanClass, handlerMethod.getName(),
+						Arrays.stream(PrecomputedMappings.getParameterTypeNames(handlerMethod)) //
+								.map(it -> CodeBlock.of(", $S", it)) //
+								.collect(CodeBlock.joining("")));
+
+				method.addStatement("$T.register($T.class, $L, $L)", PrecomputedMappings.class, beanClass, variable,
+						toArguments(getMapping(DISCOVERER.getUriMapping(beanClass, handlerMethod)), requestMethods, consumes,
+								params));
+
+				// Register under the declaring class as well for the type-independent lookups
+				if (!handlerMethod.getDeclaringClass().equals(beanClass)) {
+					method.addStatement("$T.registerForDeclaringClass($L, $L)", PrecomputedMappings.class, variable,
+							toArguments(getMapping(DISCOVERER.getUriMapping(handlerMethod.getDeclaringClass(), handlerMethod)),
+									requestMethods, consumes, params));
+				}
+			}
+
+			method.addStatement("return instance");
+		});
+
+		beanRegistrationCode.addInstancePostProcessor(generatedMethod.toMethodReference());
+	}
+
+	/**
+	 * Returns the mapping as exposed by the given {@link UriMapping}, i.e. with regular expressions of path variables
+	 * removed, so that the registered metadata matches the one looked up reflectively.
+	 *
+	 * @param mapping can be {@literal null}.
+	 * @return
+	 */
+	private static @Nullable String getMapping(@Nullable UriMapping mapping) {
+		return mapping == null ? null : mapping.getMapping();
+	}
+
+	private static CodeBlock toArguments(@Nullable String mapping, String[] requestMethods, String[] consumes,
+			String[] params) {
+
+		return CodeBlock.of("$S, $L, $L, $L", mapping, toArray(requestMethods), toArray(consumes), toArray(params));
+	}
+
+	private static CodeBlock toArray(String[] values) {
+
+		return CodeBlock.of("new String[] { $L }", Arrays.stream(values) //
+				.map(it -> CodeBlock.of("$S", it)) //
+				.collect(CodeBlock.joining(", ")));
+	}
+
+	private static String[] toStrings(Collection<?> values) {
+		return values.stream().map(Object::toString).toArray(String[]::new);
+	}
+}
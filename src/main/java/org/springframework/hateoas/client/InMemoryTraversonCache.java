@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, in-memory {@link TraversonCache} evicting the least recently used entries once the configured maximum
+ * number of entries is exceeded.
+ *
+ * @author agent
+ * @since 3.2
+ */
+class InMemoryTraversonCache implements TraversonCache {
+
+	private final Map<Key, Entry> entries;
+
+	/**
+	 * Creates a new {@link InMemoryTraversonCache} holding at most the given number of entries.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 */
+	InMemoryTraversonCache(int maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "Maximum number of entries must be greater than zero!");
+
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#get(org.springframework.hateoas.client.TraversonCache.Key)
+	 */
+	@Override
+	public synchronized @Nullable Entry get(Key key) {
+		return entries.get(key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#put(org.springframework.hateoas.client.TraversonCache.Key, org.springframework.hateoas.client.TraversonCache.Entry)
+	 */
+	@Override
+	public synchronized void put(Key key, Entry entry) {
+		entries.put(key, entry);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#evict(org.springframework.hateoas.client.TraversonCache.Key)
+	 */
+	@Override
+	public synchronized void evict(Key key) {
+		entries.remove(key);
+	}
+}
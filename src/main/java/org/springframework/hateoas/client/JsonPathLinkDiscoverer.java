@@ -17,8 +17,11 @@ package org.springframework.hateoas.client;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,9 +31,13 @@ import org.jspecify.annotations.NonNull;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
+import org.springframework.hateoas.mediatype.jsonpath.JacksonJsonProvider;
+import org.springframework.hateoas.mediatype.jsonpath.JacksonMappingProvider;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
@@ -43,7 +50,12 @@ import com.jayway.jsonpath.PathNotFoundException;
  */
 public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
-	private final String pathTemplate;
+	private static final Configuration CONFIGURATION = Configuration.builder() //
+			.jsonProvider(new JacksonJsonProvider()) //
+			.mappingProvider(new JacksonMappingProvider()) //
+			.build();
+
+	private final ConcurrentLruCache<String, JsonPath> expressions;
 	protected final List<MediaType> mediaTypes;
 
 	/**
@@ -58,7 +70,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		Assert.hasText(pathTemplate, "Path template must not be null!");
 		Assert.notNull(mediaTypes, "Primary MediaType must not be null!");
 
-		this.pathTemplate = pathTemplate;
+		this.expressions = new ConcurrentLruCache<>(256, rel -> JsonPath.compile(String.format(pathTemplate, rel)));
 		this.mediaTypes = Arrays.asList(mediaTypes);
 	}
 
@@ -118,6 +130,63 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		}
 	}
 
+	/**
+	 * Returns all links for each of the given {@link LinkRelation}s found in the given {@link InputStream}
+	 * representation. The representation is only parsed once, independently of the number of relations to look up.
+	 *
+	 * @param relations must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return the {@link Links} found per {@link LinkRelation} in the order of the given relations, will never be
+	 *         {@literal null}.
+	 * @since 3.2
+	 */
+	public Map<LinkRelation, Links> findLinksWithRels(Collection<? extends LinkRelation> relations,
+			InputStream representation) {
+
+		Assert.notNull(relations, "LinkRelations must not be null!");
+		Assert.notNull(representation, "InputStream must not be null!");
+
+		Object document = CONFIGURATION.jsonProvider().parse(representation, StandardCharsets.UTF_8.name());
+		Map<LinkRelation, Links> result = new LinkedHashMap<>(relations.size());
+
+		for (LinkRelation relation : relations) {
+			result.put(relation, findLinksWithRel(relation, document, CONFIGURATION));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns all links with the given {@link LinkRelation} found in the given document, already read into {@link Map}s
+	 * and {@link List}s, e.g. by Jackson.
+	 *
+	 * @param relation must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	protected Links findLinksWithRel(LinkRelation relation, Object document) {
+		return findLinksWithRel(relation, document, CONFIGURATION);
+	}
+
+	/**
+	 * Returns all links with the given {@link LinkRelation} found in the given, already parsed document.
+	 *
+	 * @param relation must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @param configuration the {@link Configuration} the document was parsed with, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	protected Links findLinksWithRel(LinkRelation relation, Object document, Configuration configuration) {
+
+		try {
+			return createLinksFrom(getExpression(relation).read(document, configuration), relation);
+		} catch (InvalidPathException o_O) {
+			return Links.NONE;
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -147,7 +216,7 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 	 * @return
 	 */
 	private JsonPath getExpression(LinkRelation rel) {
-		return JsonPath.compile(String.format(pathTemplate, rel.value()));
+		return expressions.get(rel.value());
 	}
 
 	/**
@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
@@ -62,6 +63,16 @@ class Rels {
 		 * @return
 		 */
 		Optional<Link> findInResponse(String representation, MediaType mediaType);
+
+		/**
+		 * Returns the link contained in the given {@link InputStream} representation of the given {@link MediaType}.
+		 *
+		 * @param representation will never be {@literal null}.
+		 * @param mediaType will never be {@literal null}.
+		 * @return
+		 * @since 3.2
+		 */
+		Optional<Link> findInResponse(InputStream representation, MediaType mediaType);
 	}
 
 	/**
@@ -101,6 +112,18 @@ class Rels {
 					.findLinkWithRel(rel, response);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Optional<Link> findInResponse(InputStream response, MediaType mediaType) {
+
+			return discoverers //
+					.getRequiredLinkDiscovererFor(mediaType) //
+					.findLinkWithRel(rel, response);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Object#toString()
@@ -145,5 +168,14 @@ class Rels {
 		public Optional<Link> findInResponse(@Nullable String representation, @Nullable MediaType mediaType) {
 			return Optional.of(Link.of(JsonPath.read(representation, jsonPath).toString(), rel));
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Optional<Link> findInResponse(InputStream representation, @Nullable MediaType mediaType) {
+			return Optional.of(Link.of(JsonPath.parse(representation).read(jsonPath).toString(), rel));
+		}
 	}
 }
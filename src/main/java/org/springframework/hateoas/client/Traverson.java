@@ -25,16 +25,22 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.client.Rels.Rel;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -61,6 +67,7 @@ import com.jayway.jsonpath.JsonPath;
 public class Traverson {
 
 	private static final TraversonDefaults DEFAULTS;
+	private static final int DEFAULT_CONCURRENCY_LIMIT = 16;
 
 	static {
 
@@ -82,6 +89,8 @@ public class Traverson {
 
 	private RestOperations operations;
 	private LinkDiscoverers discoverers;
+	private @Nullable TraversonCache cache;
+	private Executor executor;
 
 	/**
 	 * Creates a new {@link Traverson} interacting with the given base URI and using the given {@link MediaType}s to
@@ -110,6 +119,7 @@ public class Traverson {
 		this.baseUri = baseUri;
 		this.discoverers = defaultLinkDiscoverers(DEFAULTS.getLinkDiscoverers(mediaTypes));
 		this.operations = createDefaultTemplate(this.mediaTypes);
+		this.executor = createDefaultExecutor();
 	}
 
 	/**
@@ -130,6 +140,20 @@ public class Traverson {
 		return template;
 	}
 
+	private static Executor createDefaultExecutor() {
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("traverson-");
+		executor.setConcurrencyLimit(DEFAULT_CONCURRENCY_LIMIT);
+
+		try {
+			executor.setVirtualThreads(true);
+		} catch (UnsupportedOperationException o_O) {
+			// Virtual threads are only available on Java 21 and newer, fall back to platform threads
+		}
+
+		return executor;
+	}
+
 	/**
 	 * Configures the {@link RestOperations} to use. If {@literal null} is provided a default {@link RestTemplate} will be
 	 * used.
@@ -158,6 +182,39 @@ public class Traverson {
 		return this;
 	}
 
+	/**
+	 * Configures the {@link TraversonCache} to keep the responses of intermediate hops in. Subsequent traversals then
+	 * reuse fresh responses and revalidate stale ones conditionally. If {@literal null} is provided, caching is disabled,
+	 * which is the default.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @return
+	 * @since 3.2
+	 * @see TraversonCache#inMemory(int)
+	 */
+	public Traverson setCache(@Nullable TraversonCache cache) {
+
+		this.cache = cache;
+
+		return this;
+	}
+
+	/**
+	 * Configures the {@link Executor} to run the branches of a forked traversal on. If {@literal null} is provided, the
+	 * default is re-applied, which uses virtual threads if available and runs at most 16 branches concurrently.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return
+	 * @since 3.2
+	 * @see TraversalBuilder#thenAll(Hop...)
+	 */
+	public Traverson setExecutor(@Nullable Executor executor) {
+
+		this.executor = executor == null ? createDefaultExecutor() : executor;
+
+		return this;
+	}
+
 	/**
 	 * Sets up a {@link TraversalBuilder} to follow the given rels.
 	 *
@@ -210,7 +267,7 @@ public class Traverson {
 	public class TraversalBuilder {
 
 		private static final String MEDIA_TYPE_HEADER_NOT_FOUND = "Response for request to %s did not expose a content type! Unable to identify links!";
-		private static final String LINK_NOT_FOUND = "Expected to find link with rel '%s' in response %s!";
+		private static final String LINK_NOT_FOUND = "Expected to find link with rel '%s' in response from %s!";
 
 		private final List<Hop> rels = new ArrayList<>();
 		private Map<String, Object> templateParameters = new HashMap<>();
@@ -282,6 +339,66 @@ public class Traverson {
 			return this;
 		}
 
+		/**
+		 * Forks the traversal into the given {@link Hop}s, all of which are followed from the resource the traversal
+		 * configured so far leads to. That resource is only requested once. The requests for the final resources of the
+		 * individual branches are then issued concurrently on the {@link Executor} configured.
+		 *
+		 * @param hops must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 3.2
+		 * @see Traverson#setExecutor(Executor)
+		 */
+		public ForkedTraversal thenAll(Hop... hops) {
+
+			Assert.notNull(hops, "Hops must not be null!");
+
+			return thenAll(Arrays.asList(hops));
+		}
+
+		/**
+		 * Forks the traversal into the given {@link Hop}s, all of which are followed from the resource the traversal
+		 * configured so far leads to.
+		 *
+		 * @param hops must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 3.2
+		 * @see #thenAll(Hop...)
+		 */
+		public ForkedTraversal thenAll(List<Hop> hops) {
+
+			Assert.notNull(hops, "Hops must not be null!");
+
+			return new ForkedTraversal(hops);
+		}
+
+		/**
+		 * Forks the traversal into one branch per given set of template parameters, each following the given relation from
+		 * the resource the traversal configured so far leads to. The link for the relation is only looked up once and then
+		 * expanded with each set of parameters. The branches are executed like the ones handed into
+		 * {@link #thenAll(Hop...)}.
+		 *
+		 * @param rel must not be {@literal null} or empty.
+		 * @param parameters must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 3.2
+		 * @see #thenAll(Hop...)
+		 */
+		public ForkedTraversal thenAll(String rel, Iterable<? extends Map<String, ?>> parameters) {
+
+			Assert.hasText(rel, "Relation must not be null or empty!");
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			Hop hop = Hop.rel(rel);
+			List<Hop> hops = new ArrayList<>();
+
+			for (Map<String, ?> it : parameters) {
+				hops.add(hop.withParameters(new HashMap<>(it)));
+			}
+
+			return new ForkedTraversal(hops);
+		}
+
 		/**
 		 * Executes the traversal and marshals the final response into an object of the given type.
 		 *
@@ -331,9 +448,7 @@ public class Traverson {
 			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
 			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
 
-			String forObject = operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, String.class).getBody();
-
-			return JsonPath.read(forObject, jsonPath);
+			return readJsonPath(uriAndHeaders.getUri(), requestEntity, jsonPath);
 		}
 
 		/**
@@ -406,26 +521,137 @@ public class Traverson {
 			HttpEntity<?> request = prepareRequest(mergeHeaders(this.headers, extraHeaders));
 			URI target = UriTemplate.of(uri).expand();
 
-			ResponseEntity<String> responseEntity = operations.exchange(target, GET, request, String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
+			Hop thisHop = rels.next();
 
-			if (contentType == null) {
-				throw new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target));
-			}
+			String linkTarget = cache == null //
+					? streamAndFindLinkTarget(thisHop, target, request.getHeaders()) //
+					: findLinkTarget(thisHop, target, getHop(target, request.getHeaders()));
 
-			String responseBody = responseEntity.getBody();
+			return getAndFindLinkWithRel(linkTarget, rels, thisHop.getHeaders());
+		}
 
-			Hop thisHop = rels.next();
-			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
+		private String findLinkTarget(Hop hop, URI target, TraversonCache.Entry response) {
+			return expand(hop, findLink(hop.getRel(), target, response));
+		}
 
-			Link link = rel.findInResponse(responseBody == null ? "" : responseBody, contentType) //
-					.orElseThrow(() -> new IllegalStateException(String.format(LINK_NOT_FOUND, rel, responseBody)));
+		private Link findLink(String relation, URI target, TraversonCache.Entry response) {
 
-			String linkTarget = thisHop.hasParameters() //
-					? link.expand(thisHop.getMergedParameters(templateParameters)).getHref() //
+			Rel rel = Rels.getRelFor(relation, discoverers);
+
+			return rel.findInResponse(response.getBody(), response.getContentType()) //
+					.orElseThrow(() -> new IllegalStateException(String.format(LINK_NOT_FOUND, rel, target)));
+		}
+
+		/**
+		 * Looks up the link for the given {@link Hop} while reading the response for the given target, so that the
+		 * representation never has to be buffered as a whole.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @param target must not be {@literal null}.
+		 * @param headers must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		private String streamAndFindLinkTarget(Hop hop, URI target, HttpHeaders headers) {
+
+			Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+
+			Link link = operations.execute(target, GET, request -> request.getHeaders().putAll(headers), response -> {
+
+				MediaType contentType = response.getHeaders().getContentType();
+
+				if (contentType == null) {
+					throw new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target));
+				}
+
+				return rel.findInResponse(response.getBody(), contentType).orElse(null);
+			});
+
+			if (link == null) {
+				throw new IllegalStateException(String.format(LINK_NOT_FOUND, rel, target));
+			}
+
+			return expand(hop, link);
+		}
+
+		private String expand(Hop hop, Link link) {
+
+			return hop.hasParameters() //
+					? link.expand(hop.getMergedParameters(templateParameters)).getHref() //
 					: link.getHref();
+		}
 
-			return getAndFindLinkWithRel(linkTarget, rels, thisHop.getHeaders());
+		/**
+		 * Evaluates the given JSON Path expression against the representation of the given target while reading it.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return
+		 */
+		private <T> T readJsonPath(URI target, HttpEntity<?> request, String jsonPath) {
+
+			return operations.execute(target, GET, it -> it.getHeaders().putAll(request.getHeaders()),
+					response -> JsonPath.parse(response.getBody()).read(jsonPath));
+		}
+
+		/**
+		 * Returns the response for the given hop request, consulting and updating the configured {@link TraversonCache},
+		 * if present. Stale entries are revalidated using a conditional request.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param headers must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		private TraversonCache.Entry getHop(URI target, HttpHeaders headers) {
+
+			TraversonCache cache = Traverson.this.cache;
+
+			if (cache == null) {
+				return toEntry(target, operations.exchange(target, GET, new HttpEntity<Void>(headers), String.class), false);
+			}
+
+			TraversonCache.Key key = new TraversonCache.Key(target, headers);
+			TraversonCache.Entry cached = cache.get(key);
+
+			if (cached != null && cached.isFresh()) {
+				return cached;
+			}
+
+			HttpHeaders toSend = HttpHeaders.copyOf(headers);
+
+			if (cached != null) {
+				cached.addConditionalHeaders(toSend);
+			}
+
+			ResponseEntity<String> response = operations.exchange(target, GET, new HttpEntity<Void>(toSend), String.class);
+
+			TraversonCache.Entry entry = cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+					? cached.revalidated(response.getHeaders())
+					: toEntry(target, response, true);
+
+			if (entry.isCacheable()) {
+				cache.put(key, entry);
+			} else {
+				cache.evict(key);
+			}
+
+			return entry;
+		}
+
+		private TraversonCache.Entry toEntry(URI target, ResponseEntity<String> response, boolean cacheable) {
+
+			MediaType contentType = response.getHeaders().getContentType();
+
+			if (contentType == null) {
+				throw new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target));
+			}
+
+			String body = response.getBody();
+			String content = body == null ? "" : body;
+
+			return cacheable //
+					? TraversonCache.Entry.of(content, contentType, response.getHeaders()) //
+					: TraversonCache.Entry.uncacheable(content, contentType);
 		}
 
 		/**
@@ -444,6 +670,130 @@ public class Traverson {
 
 			return mergedHeaders;
 		}
+
+		/**
+		 * A traversal forked into multiple branches starting at the same resource.
+		 *
+		 * @author agent
+		 * @since 3.2
+		 * @see TraversalBuilder#thenAll(Hop...)
+		 */
+		public class ForkedTraversal {
+
+			private final List<Hop> branches;
+
+			private ForkedTraversal(List<Hop> branches) {
+				this.branches = List.copyOf(branches);
+			}
+
+			/**
+			 * Executes the branches and marshals their final responses into objects of the given type.
+			 *
+			 * @param type must not be {@literal null}.
+			 * @return the results in the order of the branches, will never be {@literal null}.
+			 */
+			public <T> List<@Nullable T> toObjects(Class<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return execute(it -> operations.exchange(it.getUri(), GET, toRequest(it), type).getBody());
+			}
+
+			/**
+			 * Executes the branches and marshals their final responses into objects of the given
+			 * {@link ParameterizedTypeReference}.
+			 *
+			 * @param type must not be {@literal null}.
+			 * @return the results in the order of the branches, will never be {@literal null}.
+			 */
+			public <T> List<@Nullable T> toObjects(ParameterizedTypeReference<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return execute(it -> operations.exchange(it.getUri(), GET, toRequest(it), type).getBody());
+			}
+
+			/**
+			 * Executes the branches and returns the results of the given JSON Path expression evaluated against their final
+			 * representations.
+			 *
+			 * @param jsonPath must not be {@literal null} or empty.
+			 * @return the results in the order of the branches, will never be {@literal null}.
+			 */
+			public <T> List<T> toObjects(String jsonPath) {
+
+				Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+				return execute(it -> readJsonPath(it.getUri(), toRequest(it), jsonPath));
+			}
+
+			/**
+			 * Returns the {@link Link}s found for the branches, expanded using the template parameters configured.
+			 *
+			 * @return the links in the order of the branches, will never be {@literal null}.
+			 */
+			public List<Link> asLinks() {
+
+				List<URIAndHeaders> targets = resolveBranches();
+				List<Link> links = new ArrayList<>(targets.size());
+
+				for (int i = 0; i < targets.size(); i++) {
+					links.add(Link.of(targets.get(i).getUri().toString(), branches.get(i).getRel()));
+				}
+
+				return links;
+			}
+
+			private HttpEntity<?> toRequest(URIAndHeaders target) {
+				return prepareRequest(mergeHeaders(headers, target.getHttpHeaders()));
+			}
+
+			private <T> List<T> execute(Function<URIAndHeaders, T> function) {
+
+				List<CompletableFuture<T>> futures = resolveBranches().stream() //
+						.map(it -> CompletableFuture.supplyAsync(() -> function.apply(it), executor)) //
+						.toList();
+
+				try {
+
+					return futures.stream() //
+							.map(CompletableFuture::join) //
+							.toList();
+
+				} catch (CompletionException o_O) {
+
+					if (o_O.getCause() instanceof RuntimeException cause) {
+						throw cause;
+					}
+
+					throw o_O;
+				}
+			}
+
+			/**
+			 * Requests the resource the branches start at once and resolves the targets of all branches from it, looking up
+			 * the link for each relation only once.
+			 *
+			 * @return will never be {@literal null}.
+			 */
+			private List<URIAndHeaders> resolveBranches() {
+
+				URIAndHeaders fork = traverseToExpandedFinalUrl();
+				HttpEntity<?> request = prepareRequest(mergeHeaders(headers, fork.getHttpHeaders()));
+				TraversonCache.Entry response = getHop(fork.getUri(), request.getHeaders());
+				Map<String, Link> links = new HashMap<>();
+
+				return branches.stream() //
+						.map(it -> {
+
+							Link link = links.computeIfAbsent(it.getRel(), rel -> findLink(rel, fork.getUri(), response));
+
+							return new URIAndHeaders(UriTemplate.of(expand(it, link)).expand(templateParameters),
+									it.getHeaders());
+						}) //
+						.toList();
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A store for the responses of the intermediate hops of a {@link Traverson} traversal. Entries are created and
+ * revalidated according to the {@code Cache-Control}, {@code Expires}, {@code ETag} and {@code Last-Modified} headers
+ * of the responses, so that repeated traversals only issue requests for stale resources and revalidate those
+ * conditionally.
+ *
+ * @author agent
+ * @since 3.2
+ * @see Traverson#setCache(TraversonCache)
+ */
+public interface TraversonCache {
+
+	/**
+	 * Returns the {@link Entry} stored for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	Entry get(Key key);
+
+	/**
+	 * Stores the given {@link Entry} for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param entry must not be {@literal null}.
+	 */
+	void put(Key key, Entry entry);
+
+	/**
+	 * Removes the {@link Entry} stored for the given {@link Key}, if present.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	void evict(Key key);
+
+	/**
+	 * Creates a new in-memory {@link TraversonCache} holding at most the given number of entries, evicting the least
+	 * recently used ones first.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	static TraversonCache inMemory(int maxEntries) {
+		return new InMemoryTraversonCache(maxEntries);
+	}
+
+	/**
+	 * The key of a cached hop response: the target {@link URI} and the {@link HttpHeaders} sent with the request,
+	 * including the {@code Accept} header.
+	 *
+	 * @author agent
+	 */
+	final class Key {
+
+		private final URI uri;
+		private final HttpHeaders headers;
+
+		Key(URI uri, HttpHeaders headers) {
+
+			Assert.notNull(uri, "URI must not be null!");
+			Assert.notNull(headers, "HttpHeaders must not be null!");
+
+			this.uri = uri;
+			this.headers = HttpHeaders.copyOf(headers);
+		}
+
+		/**
+		 * Returns the {@link URI} of the request.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public URI getUri() {
+			return uri;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key that)) {
+				return false;
+			}
+
+			return uri.equals(that.uri) && headers.equals(that.headers);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(uri, headers);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("TraversonCache.Key(uri=%s, headers=%s)", uri, headers);
+		}
+	}
+
+	/**
+	 * A cached hop response, i.e. the representation and content type alongside the validators and freshness lifetime
+	 * advertised by the server.
+	 *
+	 * @author agent
+	 */
+	final class Entry {
+
+		private final String body;
+		private final MediaType contentType;
+		private final @Nullable String eTag;
+		private final long lastModified;
+		private final Instant expires;
+		private final boolean cacheable;
+
+		private Entry(String body, MediaType contentType, @Nullable String eTag, long lastModified, Instant expires,
+				boolean cacheable) {
+
+			this.body = body;
+			this.contentType = contentType;
+			this.eTag = eTag;
+			this.lastModified = lastModified;
+			this.expires = expires;
+			this.cacheable = cacheable;
+		}
+
+		/**
+		 * Creates a new {@link Entry} for the given response body, content type and response headers.
+		 *
+		 * @param body must not be {@literal null}.
+		 * @param contentType must not be {@literal null}.
+		 * @param headers must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Entry of(String body, MediaType contentType, HttpHeaders headers) {
+
+			Assert.notNull(body, "Body must not be null!");
+			Assert.notNull(contentType, "Content type must not be null!");
+			Assert.notNull(headers, "HttpHeaders must not be null!");
+
+			Instant now = Instant.now();
+			CacheDirectives directives = CacheDirectives.of(headers);
+			String eTag = headers.getETag();
+			long lastModified = headers.getLastModified();
+
+			boolean hasValidator = eTag != null || lastModified != -1;
+			Instant expires = directives.getExpires(now, headers);
+			boolean cacheable = !directives.noStore && (hasValidator || expires.isAfter(now));
+
+			return new Entry(body, contentType, eTag, lastModified, expires, cacheable);
+		}
+
+		/**
+		 * Creates a new {@link Entry} for the given response body and content type that is not supposed to be cached,
+		 * skipping the evaluation of the response headers.
+		 *
+		 * @param body must not be {@literal null}.
+		 * @param contentType must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Entry uncacheable(String body, MediaType contentType) {
+
+			Assert.notNull(body, "Body must not be null!");
+			Assert.notNull(contentType, "Content type must not be null!");
+
+			return new Entry(body, contentType, null, -1, Instant.EPOCH, false);
+		}
+
+		/**
+		 * Returns the cached representation.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getBody() {
+			return body;
+		}
+
+		/**
+		 * Returns the {@link MediaType} of the cached representation.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public MediaType getContentType() {
+			return contentType;
+		}
+
+		/**
+		 * Returns whether the entry can be used without revalidating it with the server.
+		 *
+		 * @return
+		 */
+		public boolean isFresh() {
+			return expires.isAfter(Instant.now());
+		}
+
+		/**
+		 * Returns whether the response the entry was created from allows it to be stored at all.
+		 *
+		 * @return
+		 */
+		boolean isCacheable() {
+			return cacheable;
+		}
+
+		/**
+		 * Adds {@code If-None-Match} and {@code If-Modified-Since} headers for the validators of the entry to the given
+		 * {@link HttpHeaders}.
+		 *
+		 * @param headers must not be {@literal null}.
+		 */
+		void addConditionalHeaders(HttpHeaders headers) {
+
+			if (eTag != null) {
+				headers.setIfNoneMatch(eTag);
+			}
+
+			if (lastModified != -1) {
+				headers.setIfModifiedSince(lastModified);
+			}
+		}
+
+		/**
+		 * Returns a new {@link Entry} for the current one being confirmed by a {@code 304 Not Modified} response carrying
+		 * the given {@link HttpHeaders}. If the response forbids storing the representation via {@code no-store}, the
+		 * returned {@link Entry} is not cacheable, independently of the validators of the current one.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		Entry revalidated(HttpHeaders headers) {
+
+			if (CacheDirectives.of(headers).noStore) {
+				return uncacheable(body, contentType);
+			}
+
+			Entry updated = of(body, contentType, headers);
+
+			String eTag = updated.eTag != null ? updated.eTag : this.eTag;
+			long lastModified = updated.lastModified != -1 ? updated.lastModified : this.lastModified;
+
+			return new Entry(body, contentType, eTag, lastModified, updated.expires,
+					updated.cacheable || eTag != null || lastModified != -1);
+		}
+
+		/**
+		 * The directives of a {@code Cache-Control} header relevant for a private client-side cache.
+		 *
+		 * @author agent
+		 */
+		private static final class CacheDirectives {
+
+			private final boolean noStore;
+			private final boolean noCache;
+			private final @Nullable Duration maxAge;
+
+			private CacheDirectives(boolean noStore, boolean noCache, @Nullable Duration maxAge) {
+
+				this.noStore = noStore;
+				this.noCache = noCache;
+				this.maxAge = maxAge;
+			}
+
+			static CacheDirectives of(HttpHeaders headers) {
+
+				String header = headers.getCacheControl();
+
+				if (!StringUtils.hasText(header)) {
+					return new CacheDirectives(false, false, null);
+				}
+
+				boolean noStore = false;
+				boolean noCache = false;
+				Duration maxAge = null;
+
+				for (String directive : StringUtils.commaDelimitedListToStringArray(header)) {
+
+					String candidate = directive.trim().toLowerCase();
+
+					if (candidate.equals("no-store")) {
+						noStore = true;
+					} else if (candidate.equals("no-cache")) {
+						noCache = true;
+					} else if (candidate.startsWith("max-age=")) {
+
+						try {
+							maxAge = Duration.ofSeconds(Long.parseLong(candidate.substring(8).replace("\"", "")));
+						} catch (NumberFormatException o_O) {
+							maxAge = Duration.ZERO;
+						}
+					}
+				}
+
+				return new CacheDirectives(noStore, noCache, maxAge);
+			}
+
+			Instant getExpires(Instant now, HttpHeaders headers) {
+
+				if (noCache) {
+					return now;
+				}
+
+				if (maxAge != null) {
+					return now.plus(maxAge);
+				}
+
+				long expires = headers.getExpires();
+
+				return expires == -1 ? now : Instant.ofEpochMilli(expires);
+			}
+		}
+	}
+}
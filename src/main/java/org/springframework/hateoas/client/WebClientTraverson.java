@@ -0,0 +1,485 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Reactive variant of {@link Traverson} issuing the requests for the individual hops through a {@link WebClient}, so
+ * that no thread is blocked while waiting for the responses. To decode hypermedia types into the representation
+ * models, hand in a {@link WebClient} set up through
+ * {@link org.springframework.hateoas.config.HypermediaWebClientConfigurer#registerHypermediaTypes(WebClient.Builder)}.
+ *
+ * @author agent
+ * @since 3.2
+ * @see Traverson
+ */
+public class WebClientTraverson {
+
+	private static final TraversonDefaults DEFAULTS;
+	private static final int DEFAULT_PAGE_PREFETCH = 2;
+
+	static {
+
+		List<TraversonDefaults> ALL_DEFAULTS = SpringFactoriesLoader.loadFactories(TraversonDefaults.class,
+				WebClientTraverson.class.getClassLoader());
+
+		Assert.isTrue(ALL_DEFAULTS.size() == 1,
+				() -> String.format("Expected to find only one TraversonDefaults instance, but found: %s", //
+						ALL_DEFAULTS.stream() //
+								.map(Object::getClass) //
+								.map(Class::getName) //
+								.collect(Collectors.joining(", "))));
+
+		DEFAULTS = ALL_DEFAULTS.get(0);
+	}
+
+	private final URI baseUri;
+	private final List<MediaType> mediaTypes;
+	private final WebClient client;
+
+	private LinkDiscoverers discoverers;
+
+	/**
+	 * Creates a new {@link WebClientTraverson} interacting with the given base URI through the given {@link WebClient}
+	 * and using the given {@link MediaType}s to interact with the service.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param client must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public WebClientTraverson(URI baseUri, WebClient client, MediaType... mediaTypes) {
+		this(baseUri, client, Arrays.asList(mediaTypes));
+	}
+
+	/**
+	 * Creates a new {@link WebClientTraverson} interacting with the given base URI through the given {@link WebClient}
+	 * and using the given {@link MediaType}s to interact with the service.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param client must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public WebClientTraverson(URI baseUri, WebClient client, List<MediaType> mediaTypes) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		Assert.notNull(client, "WebClient must not be null!");
+		Assert.notEmpty(mediaTypes, "At least one media type must be given!");
+
+		this.baseUri = baseUri;
+		this.client = client;
+		this.mediaTypes = mediaTypes;
+		this.discoverers = defaultLinkDiscoverers(null);
+	}
+
+	/**
+	 * Sets the {@link LinkDiscoverer}s to use. If {@literal null} is provided the default is re-applied.
+	 *
+	 * @param discoverer can be {@literal null}.
+	 * @return
+	 */
+	public WebClientTraverson setLinkDiscoverers(@Nullable List<? extends LinkDiscoverer> discoverer) {
+
+		this.discoverers = defaultLinkDiscoverers(discoverer);
+
+		return this;
+	}
+
+	/**
+	 * Sets up a {@link WebClientTraversalBuilder} to follow the given rels.
+	 *
+	 * @param rels must not be {@literal null} or empty.
+	 * @return
+	 * @see WebClientTraversalBuilder
+	 */
+	public WebClientTraversalBuilder follow(String... rels) {
+		return new WebClientTraversalBuilder().follow(rels);
+	}
+
+	/**
+	 * Sets up a {@link WebClientTraversalBuilder} for a single rel with customized details.
+	 *
+	 * @param hop must not be {@literal null}
+	 * @return
+	 */
+	public WebClientTraversalBuilder follow(Hop hop) {
+		return new WebClientTraversalBuilder().follow(hop);
+	}
+
+	private LinkDiscoverers defaultLinkDiscoverers(@Nullable List<? extends LinkDiscoverer> discoverer) {
+
+		var defaultedDiscoverers = discoverer == null ? DEFAULTS.getLinkDiscoverers(mediaTypes) : discoverer;
+
+		return new LinkDiscoverers(PluginRegistry.of(defaultedDiscoverers));
+	}
+
+	private ResponseSpec get(URI uri, HttpHeaders headers) {
+
+		return client.get() //
+				.uri(uri) //
+				.headers(it -> {
+
+					it.addAll(headers);
+
+					if (headers.getAccept().isEmpty()) {
+						it.setAccept(mediaTypes);
+					}
+				}) //
+				.retrieve();
+	}
+
+	/**
+	 * Builder API to customize traversals.
+	 *
+	 * @author agent
+	 */
+	public class WebClientTraversalBuilder {
+
+		private static final String MEDIA_TYPE_HEADER_NOT_FOUND = "Response for request to %s did not expose a content type! Unable to identify links!";
+		private static final String LINK_NOT_FOUND = "Expected to find link with rel '%s' in response from %s!";
+
+		private final List<Hop> rels = new ArrayList<>();
+		private Map<String, Object> templateParameters = new HashMap<>();
+		private HttpHeaders headers = new HttpHeaders();
+
+		private WebClientTraversalBuilder() {}
+
+		/**
+		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
+		 * line.
+		 *
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		public WebClientTraversalBuilder follow(String... rels) {
+
+			Assert.notNull(rels, "Rels must not be null!");
+
+			Arrays.stream(rels) //
+					.map(Hop::rel) //
+					.forEach(this.rels::add);
+
+			return this;
+		}
+
+		/**
+		 * Follows the given {@link Hop}, which means a request to discover the next resource with the rel in line.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 * @see Hop#rel(String)
+		 */
+		public WebClientTraversalBuilder follow(Hop hop) {
+
+			Assert.notNull(hop, "Hop must not be null!");
+
+			this.rels.add(hop);
+
+			return this;
+		}
+
+		/**
+		 * Adds the given template parameters to the traversal. If a link discovered by the traversal is templated, the
+		 * given parameters will be used to expand it into a resolvable URI.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return
+		 */
+		public WebClientTraversalBuilder withTemplateParameters(Map<String, Object> parameters) {
+
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			this.templateParameters = parameters;
+			return this;
+		}
+
+		/**
+		 * The {@link HttpHeaders} that shall be used for the requests of the traversal.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @return
+		 */
+		public WebClientTraversalBuilder withHeaders(HttpHeaders headers) {
+
+			Assert.notNull(headers, "Headers must not be null!");
+
+			this.headers = headers;
+			return this;
+		}
+
+		/**
+		 * Executes the traversal and decodes the final response into an object of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public <T> Mono<T> toObject(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return retrieveFinal(it -> it.bodyToMono(type));
+		}
+
+		/**
+		 * Executes the traversal and decodes the final response into an object of the given
+		 * {@link ParameterizedTypeReference}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public <T> Mono<T> toObject(ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return retrieveFinal(it -> it.bodyToMono(type));
+		}
+
+		/**
+		 * Executes the traversal and returns the result of the given JSON Path expression evaluated against the final
+		 * representation.
+		 *
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return will never be {@literal null}.
+		 */
+		public <T> Mono<T> toObject(String jsonPath) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+			return retrieveFinal(it -> read(it.bodyToFlux(DataBuffer.class), //
+					stream -> JsonPath.parse(stream).<T> read(jsonPath)));
+		}
+
+		/**
+		 * Returns the raw {@link ResponseEntity} with the representation decoded into an instance of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public <T> Mono<ResponseEntity<T>> toEntity(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return retrieveFinal(it -> it.toEntity(type));
+		}
+
+		/**
+		 * Executes the traversal, decodes the final response into a {@link PagedModel} of the given type and follows the
+		 * {@code next} links of the pages until the last page has been reached.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 3.2
+		 */
+		public <T> Flux<PagedModel<T>> toPages(ParameterizedTypeReference<PagedModel<T>> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return toObject(type) //
+					.expand(page -> page.getNextLink() //
+							.map(it -> get(it.expand().toUri(), headers).bodyToMono(type)) //
+							.orElseGet(Mono::empty));
+		}
+
+		/**
+		 * Executes the traversal and emits the content of all pages reachable from the final resource via {@code next}
+		 * links. Requests the next two pages ahead of the elements currently consumed.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 * @since 3.2
+		 * @see #toPagedContent(ParameterizedTypeReference, int)
+		 */
+		public <T> Flux<T> toPagedContent(ParameterizedTypeReference<PagedModel<T>> type) {
+			return toPagedContent(type, DEFAULT_PAGE_PREFETCH);
+		}
+
+		/**
+		 * Executes the traversal and emits the content of all pages reachable from the final resource via {@code next}
+		 * links. Up to the given number of pages are requested ahead of the elements currently consumed, so that the
+		 * latency of fetching the subsequent pages overlaps with processing the current one. Use
+		 * {@link Flux#toIterable()} or {@link Flux#toStream()} to consume the elements in a blocking fashion.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param prefetch the number of pages to request in advance, must be greater than zero.
+		 * @return will never be {@literal null}.
+		 * @since 3.2
+		 */
+		public <T> Flux<T> toPagedContent(ParameterizedTypeReference<PagedModel<T>> type, int prefetch) {
+
+			Assert.isTrue(prefetch > 0, "Prefetch must be greater than zero!");
+
+			return toPages(type).concatMapIterable(PagedModel::getContent, prefetch);
+		}
+
+		/**
+		 * Returns the {@link Link} found for the last rel in the rels configured to follow, expanded with the template
+		 * parameters configured.
+		 *
+		 * @return will never be {@literal null}.
+		 * @see #withTemplateParameters(Map)
+		 */
+		public Mono<Link> asLink() {
+			return traverseToLink(true);
+		}
+
+		/**
+		 * Returns the templated {@link Link} found for the last relation in the rels configured to follow.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Mono<Link> asTemplatedLink() {
+			return traverseToLink(false);
+		}
+
+		private <T> Mono<T> retrieveFinal(Function<ResponseSpec, Mono<T>> extractor) {
+
+			return traverseToFinalUrl() //
+					.flatMap(it -> extractor.apply(get(UriTemplate.of(it.uri).expand(templateParameters),
+							mergeHeaders(this.headers, it.headers))));
+		}
+
+		private Mono<Link> traverseToLink(boolean expandFinalUrl) {
+
+			Assert.isTrue(!rels.isEmpty(), "At least one rel needs to be provided!");
+
+			String rel = rels.get(rels.size() - 1).getRel();
+
+			return traverseToFinalUrl() //
+					.map(it -> expandFinalUrl //
+							? Link.of(UriTemplate.of(it.uri).expand(templateParameters).toString(), rel)
+							: Link.of(UriTemplate.of(it.uri).toString(), rel));
+		}
+
+		private Mono<UriStringAndHeaders> traverseToFinalUrl() {
+
+			List<Hop> hops = List.copyOf(rels);
+
+			return Mono.defer(() -> getAndFindLinkWithRel(baseUri.toString(), hops, 0, HttpHeaders.EMPTY));
+		}
+
+		private Mono<UriStringAndHeaders> getAndFindLinkWithRel(String uri, List<Hop> hops, int index,
+				HttpHeaders extraHeaders) {
+
+			if (index == hops.size()) {
+				return Mono.just(new UriStringAndHeaders(uri, extraHeaders));
+			}
+
+			URI target = UriTemplate.of(uri).expand();
+			Hop thisHop = hops.get(index);
+			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
+
+			return get(target, mergeHeaders(this.headers, extraHeaders)) //
+					.toEntityFlux(DataBuffer.class) //
+					.flatMap(response -> {
+
+						MediaType contentType = response.getHeaders().getContentType();
+
+						if (contentType == null) {
+							return Mono.error(new IllegalStateException(String.format(MEDIA_TYPE_HEADER_NOT_FOUND, target)));
+						}
+
+						Flux<DataBuffer> body = response.getBody() == null ? Flux.empty() : response.getBody();
+
+						return read(body, stream -> rel.findInResponse(stream, contentType).orElse(null)) //
+								.switchIfEmpty(Mono.error(
+										() -> new IllegalStateException(String.format(LINK_NOT_FOUND, rel, target))));
+					}) //
+					.flatMap(link -> {
+
+						String linkTarget = thisHop.hasParameters() //
+								? link.expand(thisHop.getMergedParameters(templateParameters)).getHref() //
+								: link.getHref();
+
+						return getAndFindLinkWithRel(linkTarget, hops, index + 1, thisHop.getHeaders());
+					});
+		}
+
+		/**
+		 * Applies the given reader to an {@link InputStream} over the given body, so that the representation never has to
+		 * be aggregated as a whole. The blocking read happens on the bounded elastic scheduler.
+		 *
+		 * @param body must not be {@literal null}.
+		 * @param reader must not be {@literal null}.
+		 * @return
+		 */
+		private <T> Mono<T> read(Flux<DataBuffer> body, Function<InputStream, @Nullable T> reader) {
+
+			return Mono.<T> fromCallable(() -> {
+
+				try (InputStream stream = DataBufferUtils.subscriberInputStream(body, 1)) {
+					return reader.apply(stream);
+				}
+
+			}).subscribeOn(Schedulers.boundedElastic());
+		}
+
+		private HttpHeaders mergeHeaders(HttpHeaders headersA, HttpHeaders headersB) {
+
+			HttpHeaders mergedHeaders = new HttpHeaders();
+
+			mergedHeaders.addAll(headersA);
+			mergedHeaders.addAll(headersB);
+
+			return mergedHeaders;
+		}
+	}
+
+	/**
+	 * Temporary container for a string-based {@literal URI} and {@link HttpHeaders}.
+	 */
+	private static final class UriStringAndHeaders {
+
+		private final String uri;
+		private final HttpHeaders headers;
+
+		UriStringAndHeaders(String uri, HttpHeaders headers) {
+
+			this.uri = uri;
+			this.headers = headers;
+		}
+	}
+}
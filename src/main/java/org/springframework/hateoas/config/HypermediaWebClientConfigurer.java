@@ -15,6 +15,9 @@
  */
 package org.springframework.hateoas.config;
 
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.mediatype.hal.reactive.HalEmbeddedDecoder;
+import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
@@ -46,9 +49,36 @@ public class HypermediaWebClientConfigurer {
 	 * @return {@link WebClient.Builder} registered to handle hypermedia types.
 	 */
 	public WebClient.Builder registerHypermediaTypes(WebClient.Builder builder) {
+		return builder.codecs(it -> it.defaultCodecs().configureDefaultCodec(customizer));
+	}
+
+	/**
+	 * Registers a {@link HalEmbeddedDecoder} with the given {@link WebClient.Builder}, so that the elements of a HAL
+	 * document's {@code _embedded} clause decoded into a {@code Flux} are emitted while the response is still being
+	 * read. Every HAL document with an {@code _embedded} clause is then considered a collection. Apply in addition to
+	 * {@link #registerHypermediaTypes(WebClient.Builder)}. The decoder uses the maximum in-memory size configured for the
+	 * default codecs, if any.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @return {@link WebClient.Builder} registered to stream the elements of HAL collections.
+	 * @throws IllegalStateException in case HAL is not enabled.
+	 * @since 3.2
+	 */
+	public WebClient.Builder registerHalEmbeddedDecoder(WebClient.Builder builder) {
+
+		Assert.notNull(builder, "WebClient.Builder must not be null!");
+
+		HalEmbeddedDecoder decoder = customizer.getMapperFor(MediaTypes.HAL_JSON) //
+				.map(HalEmbeddedDecoder::new) //
+				.orElseThrow(() -> new IllegalStateException("HAL must be enabled to stream HAL collections!"));
+
+		return builder.codecs(it -> it.customCodecs().registerWithDefaultConfig(decoder, config -> {
+
+			Integer maxInMemorySize = config.maxInMemorySize();
 
-		return builder.codecs(it -> {
-			it.defaultCodecs().configureDefaultCodec(customizer);
-		});
+			if (maxInMemorySize != null) {
+				decoder.setMaxInMemorySize(maxInMemorySize);
+			}
+		}));
 	}
 }
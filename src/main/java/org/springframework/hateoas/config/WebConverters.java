@@ -18,6 +18,8 @@ package org.springframework.hateoas.config;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,6 +40,7 @@ public class WebConverters {
 
 	private final List<HypermediaMappingInformation> infos;
 	private final JsonMapper mapper;
+	private final Map<HypermediaMappingInformation, JsonMapper> mappers;
 
 	/**
 	 * Creates a new {@link WebConverters} from the given {@link JsonMapper} and {@link HypermediaMappingInformation}s.
@@ -49,6 +52,7 @@ public class WebConverters {
 
 		this.mapper = mapper;
 		this.infos = mappingInformation;
+		this.mappers = new ConcurrentHashMap<>(mappingInformation.size());
 	}
 
 	/**
@@ -101,7 +105,7 @@ public class WebConverters {
 		for (var info : infos) {
 
 			var rootType = info.getRootType();
-			var configured = info.configureJsonMapper(mapper.rebuild()).build();
+			var configured = getMapperFor(info);
 
 			if (first == null) {
 				first = configured;
@@ -124,4 +128,17 @@ public class WebConverters {
 			Stream.of(MediaType.APPLICATION_JSON, ANY_JSON).forEach(it -> map.put(it, mapper));
 		});
 	}
+
+	/**
+	 * Returns the {@link JsonMapper} configured for the given {@link HypermediaMappingInformation}. The mapper is created
+	 * once, when the first converter is augmented, and shared by all converters subsequently augmented, so that they share
+	 * its serializer caches. Note that the mappers for all supported media types are created upfront rather than on the
+	 * first negotiation of a media type, as Spring's Jackson converters only accept concrete mapper instances.
+	 *
+	 * @param info must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private JsonMapper getMapperFor(HypermediaMappingInformation info) {
+		return mappers.computeIfAbsent(info, it -> it.configureJsonMapper(mapper.rebuild()).build());
+	}
 }
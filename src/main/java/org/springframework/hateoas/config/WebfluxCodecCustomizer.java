@@ -18,6 +18,9 @@ package org.springframework.hateoas.config;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -34,6 +37,7 @@ class WebfluxCodecCustomizer implements Consumer<Object> {
 
 	private final List<HypermediaMappingInformation> mappingInformations;
 	private final JsonMapper mapper;
+	private final Map<HypermediaMappingInformation, JsonMapper> mappers;
 	private final boolean withGenericJsonTypes;
 
 	/**
@@ -41,19 +45,35 @@ class WebfluxCodecCustomizer implements Consumer<Object> {
 	 * @param mapper
 	 */
 	public WebfluxCodecCustomizer(List<HypermediaMappingInformation> mappingInformations, JsonMapper mapper) {
-		this(mappingInformations, mapper, false);
+		this(mappingInformations, mapper, new ConcurrentHashMap<>(mappingInformations.size()), false);
 	}
 
 	private WebfluxCodecCustomizer(List<HypermediaMappingInformation> mappingInformations, JsonMapper mapper,
-			boolean withGenericJsonTypes) {
+			Map<HypermediaMappingInformation, JsonMapper> mappers, boolean withGenericJsonTypes) {
 
 		this.mappingInformations = mappingInformations;
 		this.mapper = mapper;
+		this.mappers = mappers;
 		this.withGenericJsonTypes = withGenericJsonTypes;
 	}
 
 	WebfluxCodecCustomizer withGenericJsonTypes() {
-		return new WebfluxCodecCustomizer(mappingInformations, mapper, true);
+		return new WebfluxCodecCustomizer(mappingInformations, mapper, mappers, true);
+	}
+
+	/**
+	 * Returns the {@link JsonMapper} configured for the first {@link HypermediaMappingInformation} supporting the given
+	 * {@link MediaType}.
+	 *
+	 * @param mediaType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<JsonMapper> getMapperFor(MediaType mediaType) {
+
+		return mappingInformations.stream() //
+				.filter(it -> it.getMediaTypes().contains(mediaType)) //
+				.findFirst() //
+				.map(this::getMapperFor);
 	}
 
 	/*
@@ -73,7 +93,7 @@ class WebfluxCodecCustomizer implements Consumer<Object> {
 
 		for (HypermediaMappingInformation information : mappingInformations) {
 
-			var configured = information.configureJsonMapper(mapper.rebuild()).build();
+			var configured = getMapperFor(information);
 
 			if (firstMapper == null) {
 				firstMapper = configured;
@@ -97,4 +117,17 @@ class WebfluxCodecCustomizer implements Consumer<Object> {
 			Stream.of(MediaType.APPLICATION_JSON, ANY_JSON).forEach(mediaType -> map.put(mediaType, mapper));
 		});
 	}
+
+	/**
+	 * Returns the {@link JsonMapper} configured for the given {@link HypermediaMappingInformation}. The mapper is created
+	 * once, when the first codec is customized, and shared by all codecs subsequently customized, so that they share its
+	 * serializer caches. Note that the mappers for all supported media types are created upfront rather than on the first
+	 * negotiation of a media type, as Spring's Jackson codecs only accept concrete mapper instances.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private JsonMapper getMapperFor(HypermediaMappingInformation information) {
+		return mappers.computeIfAbsent(information, it -> it.configureJsonMapper(mapper.rebuild()).build());
+	}
 }
@@ -21,12 +21,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.AffordanceModel;
 import org.springframework.hateoas.AffordanceModel.InputPayloadMetadata;
 import org.springframework.hateoas.AffordanceModel.PayloadMetadata;
 import org.springframework.hateoas.Link;
@@ -385,7 +387,7 @@ public class Affordances implements AffordanceOperations {
 
 			return factories.stream() //
 					.collect(collectingAndThen(toMap(AffordanceModelFactory::getMediaType, //
-							it -> it.getAffordanceModel(this)), Affordance::new));
+							it -> (Supplier<AffordanceModel>) () -> it.getAffordanceModel(this)), Affordance::lazy));
 		}
 	}
 }
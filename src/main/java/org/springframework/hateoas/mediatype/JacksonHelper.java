@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas.mediatype;
 
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
@@ -25,6 +29,10 @@ import org.springframework.hateoas.EntityModel;
  */
 public final class JacksonHelper {
 
+	private static final JsonMapper PARTIAL_READING_MAPPER = JsonMapper.builder() //
+			.disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS) //
+			.build();
+
 	/**
 	 * Navigate a chain of parametric types (e.g. Resources&lt;Resource&lt;String&gt;&gt;) until you find the innermost
 	 * type (String).
@@ -52,4 +60,48 @@ public final class JacksonHelper {
 		return CollectionModel.class.isAssignableFrom(type.getRawClass())
 				&& EntityModel.class.isAssignableFrom(type.containedType(0).getRawClass());
 	}
+
+	/**
+	 * Advances the given {@link JsonParser}, positioned at the start of or inside an object, to the value of the
+	 * property with the given name. All other properties are skipped without being materialized.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @return whether the property was found. If so, the parser is positioned at its value, otherwise at the end of the
+	 *         object.
+	 * @since 3.2
+	 */
+	public static boolean skipToProperty(JsonParser parser, String name) {
+
+		if (parser.currentToken() == null && parser.nextToken() != JsonToken.START_OBJECT) {
+			return false;
+		}
+
+		while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+
+			String current = parser.currentName();
+
+			parser.nextToken();
+
+			if (name.equals(current)) {
+				return true;
+			}
+
+			parser.skipChildren();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns a plain {@link JsonMapper} to read parts of a document into {@link java.util.Map}s and
+	 * {@link java.util.List}s. It tolerates trailing content, as callers usually stop reading once they found what they
+	 * were looking for.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	public static JsonMapper getPartialReadingMapper() {
+		return PARTIAL_READING_MAPPER;
+	}
 }
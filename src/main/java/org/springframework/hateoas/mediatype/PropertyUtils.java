@@ -53,6 +53,8 @@ import org.springframework.hateoas.AffordanceModel.PropertyMetadata;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.InputType;
+import org.springframework.hateoas.support.HateoasCache;
+import org.springframework.hateoas.support.HateoasCacheManager;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -72,8 +74,19 @@ import com.fasterxml.jackson.annotation.JsonUnwrapped;
  */
 public class PropertyUtils {
 
-	private static final Map<ResolvableType, ResolvableType> DOMAIN_TYPE_CACHE = new ConcurrentReferenceHashMap<>();
-	private static final Map<ResolvableType, InputPayloadMetadata> METADATA_CACHE = new ConcurrentReferenceHashMap<>();
+	private static final HateoasCache<ResolvableType, ResolvableType> DOMAIN_TYPE_CACHE = HateoasCacheManager
+			.getInstance().getCache("domain-types", 512,
+					it -> replaceIfUnwrappable(it, () -> unwrapDomainType(it.getGeneric(0))));
+	private static final HateoasCache<ResolvableType, InputPayloadMetadata> METADATA_CACHE = HateoasCacheManager
+			.getInstance().getCache("input-payload-metadata", 512, it -> {
+
+				ResolvableType domainType = unwrapDomainType(it);
+				Class<?> resolved = domainType.resolve(Object.class);
+
+				return Object.class.equals(resolved) //
+						? InputPayloadMetadata.NONE //
+						: new TypeBasedPayloadMetadata(resolved, lookupExposedProperties(resolved));
+			});
 	private static final Set<String> FIELDS_TO_IGNORE = new HashSet<>(Arrays.asList("class", "links"));
 	private static final boolean JSR_303_PRESENT = ClassUtils.isPresent("jakarta.validation.constraints.Email",
 			PropertyUtils.class.getClassLoader());
@@ -149,15 +162,7 @@ public class PropertyUtils {
 			return InputPayloadMetadata.NONE;
 		}
 
-		return METADATA_CACHE.computeIfAbsent(type, it -> {
-
-			ResolvableType domainType = unwrapDomainType(it);
-			Class<?> resolved = domainType.resolve(Object.class);
-
-			return Object.class.equals(resolved) //
-					? InputPayloadMetadata.NONE //
-					: new TypeBasedPayloadMetadata(resolved, lookupExposedProperties(resolved));
-		});
+		return Objects.requireNonNull(METADATA_CACHE.get(type));
 	}
 
 	private static Map<String, Object> unwrapPropertyIfNeeded(String propertyName, BeanWrapper wrapper) {
@@ -218,8 +223,7 @@ public class PropertyUtils {
 			return replaceIfUnwrappable(type, () -> OBJECT_TYPE);
 		}
 
-		return DOMAIN_TYPE_CACHE.computeIfAbsent(type,
-				it -> replaceIfUnwrappable(it, () -> unwrapDomainType(it.getGeneric(0))));
+		return Objects.requireNonNull(DOMAIN_TYPE_CACHE.get(type));
 	}
 
 	/**
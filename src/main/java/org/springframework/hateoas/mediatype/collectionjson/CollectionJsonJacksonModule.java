@@ -43,6 +43,7 @@ import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CursorModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
@@ -76,6 +77,7 @@ public class CollectionJsonJacksonModule extends SimpleModule {
 		setMixInAnnotation(EntityModel.class, EntityRepresentationModelMixin.class);
 		setMixInAnnotation(CollectionModel.class, CollectionRepresentationModelMixin.class);
 		setMixInAnnotation(PagedModel.class, PagedResourcesMixin.class);
+		setMixInAnnotation(CursorModel.class, CursorModelMixin.class);
 
 		addSerializer(new CollectionJsonPagedResourcesSerializer());
 		addSerializer(new CollectionJsonResourcesSerializer());
@@ -899,6 +901,21 @@ public class CollectionJsonJacksonModule extends SimpleModule {
 		}
 	}
 
+	static class CollectionJsonCursorModelDeserializer extends CollectionValueDeserializerBase<CursorModel<?>> {
+
+		private static final BiFunction<List<Object>, Links, CursorModel<?>> FINISHER = (content, links) -> CursorModel
+				.of(content, null, links);
+		private static final Function<JavaType, CollectionValueDeserializerBase<CursorModel<?>>> CONTEXTUAL_CREATOR = CollectionJsonCursorModelDeserializer::new;
+
+		CollectionJsonCursorModelDeserializer() {
+			super(FINISHER, CONTEXTUAL_CREATOR);
+		}
+
+		private CollectionJsonCursorModelDeserializer(JavaType contentType) {
+			super(contentType, FINISHER, CONTEXTUAL_CREATOR);
+		}
+	}
+
 	private static List<CollectionJsonItem<Object>> resourcesToCollectionJsonItems(CollectionModel<?> resources) {
 
 		return resources.getContent().stream().map(content -> {
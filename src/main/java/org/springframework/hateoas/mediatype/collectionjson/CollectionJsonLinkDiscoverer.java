@@ -15,17 +15,28 @@
  */
 package org.springframework.hateoas.mediatype.collectionjson;
 
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
+import org.springframework.hateoas.mediatype.JacksonHelper;
 import org.springframework.util.Assert;
 
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+
 /**
  * {@link LinkDiscoverer} implementation based on JSON Collection link structure. NOTE: Since links can appear in two
  * different places in a Collection+JSON document, this discoverer uses two.
@@ -35,6 +46,9 @@ import org.springframework.util.Assert;
  */
 public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 
+	private static final JsonMapper MAPPER = JacksonHelper.getPartialReadingMapper();
+	private static final JsonPath SELF_HREF = JsonPath.compile("$.collection.href");
+
 	private final CollectionJsonSelfLinkDiscoverer selfLinkDiscoverer;
 
 	public CollectionJsonLinkDiscoverer() {
@@ -59,8 +73,10 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 				: super.findLinkWithRel(relation, representation);
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * Streams through the given representation and stops reading once the first link with the given relation has been
+	 * found.
+	 *
 	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(java.lang.String, java.io.InputStream)
 	 */
 	@Override
@@ -69,9 +85,18 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 		Assert.notNull(relation, "LinkRelation must not be null!");
 		Assert.notNull(representation, "InputStream must not be null!");
 
-		return relation.isSameAs(IanaLinkRelations.SELF) //
-				? findSelfLink(representation) //
-				: super.findLinkWithRel(relation, representation);
+		try (JsonParser parser = MAPPER.createParser(representation)) {
+
+			if (!JacksonHelper.skipToProperty(parser, "collection") || !parser.hasToken(JsonToken.START_OBJECT)) {
+				return Optional.empty();
+			}
+
+			String href = relation.isSameAs(IanaLinkRelations.SELF) //
+					? findSelfHref(parser) //
+					: findHref(parser, relation.value());
+
+			return Optional.ofNullable(href).map(it -> Link.of(it, relation));
+		}
 	}
 
 	/*
@@ -102,6 +127,23 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.JsonPathLinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.Object, com.jayway.jsonpath.Configuration)
+	 */
+	@Override
+	protected Links findLinksWithRel(LinkRelation relation, Object document, Configuration configuration) {
+
+		Links links = super.findLinksWithRel(relation, document, configuration);
+
+		return relation.isSameAs(IanaLinkRelations.SELF) //
+				? findSelfLink(document, configuration) //
+						.map(Links::of) //
+						.map(it -> it.and(links)) //
+						.orElse(links) //
+				: links;
+	}
+
 	//
 	// Internal methods to support discovering the "self" link found at "$.collection.href".
 	//
@@ -114,6 +156,81 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 		return this.selfLinkDiscoverer.findLinkWithRel(IanaLinkRelations.SELF, representation);
 	}
 
+	private static Optional<Link> findSelfLink(Object document, Configuration configuration) {
+
+		try {
+
+			Object href = SELF_HREF.read(document, configuration);
+
+			return Optional.ofNullable(href).map(it -> Link.of(it.toString(), IanaLinkRelations.SELF));
+
+		} catch (InvalidPathException o_O) {
+			return Optional.empty();
+		}
+	}
+
+	private static @Nullable String findSelfHref(JsonParser parser) {
+
+		return JacksonHelper.skipToProperty(parser, "href") && parser.hasToken(JsonToken.VALUE_STRING) //
+				? parser.getString()
+				: null;
+	}
+
+	/**
+	 * Scans the structure the given {@link JsonParser} is positioned at for {@code links} arrays in document order and
+	 * returns the {@code href} of the first link with the given relation.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param rel must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	private static @Nullable String findHref(JsonParser parser, String rel) {
+
+		JsonToken token;
+
+		while ((token = parser.nextToken()) != null && !token.isStructEnd()) {
+
+			boolean links = false;
+
+			if (token == JsonToken.PROPERTY_NAME) {
+				links = "links".equals(parser.currentName());
+				token = parser.nextToken();
+			}
+
+			String href = links && token == JsonToken.START_ARRAY //
+					? findHrefInLinks(parser, rel) //
+					: token.isStructStart() ? findHref(parser, rel) : null;
+
+			if (href != null) {
+				return href;
+			}
+		}
+
+		return null;
+	}
+
+	private static @Nullable String findHrefInLinks(JsonParser parser, String rel) {
+
+		JsonToken token;
+
+		while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+
+			if (token != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+
+			Map<?, ?> link = MAPPER.readValue(parser, Map.class);
+			Object href = link.get("href");
+
+			if (rel.equals(link.get("rel")) && href != null) {
+				return href.toString();
+			}
+		}
+
+		return null;
+	}
+
 	private Links addSelfLink(Links links, String representation) {
 
 		return findSelfLink(representation) //
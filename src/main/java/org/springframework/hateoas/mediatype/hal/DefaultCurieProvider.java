@@ -1,5 +1,5 @@
 /*
- * Copyright 2013-2024 the original author or authors.
+ * Copyright 2013-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.mediatype.hal;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -26,9 +27,11 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.server.mvc.BasicLinkBuilder;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Default implementation of {@link CurieProvider} rendering a single configurable {@link UriTemplate} based curie.
@@ -40,8 +43,12 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
  */
 public class DefaultCurieProvider implements CurieProvider {
 
+	private static final int CURIE_INFORMATION_CAPACITY = 16;
+
 	private final Map<String, UriTemplate> curies;
 	private final @Nullable String defaultCurie;
+	private final boolean relativeTemplates;
+	private final @Nullable ConcurrentLruCache<String, Collection<?>> curieInformation;
 
 	/**
 	 * Creates a new {@link DefaultCurieProvider} for the given name and {@link UriTemplate}. The curie will be used to
@@ -90,6 +97,14 @@ public class DefaultCurieProvider implements CurieProvider {
 		this.defaultCurie = StringUtils.hasText(defaultCurieName) ? defaultCurieName
 				: curies.size() == 1 ? curies.keySet().iterator().next() : null;
 		this.curies = Collections.unmodifiableMap(curies);
+		this.relativeTemplates = curies.values().stream().anyMatch(it -> !isAbsolute(it));
+
+		// Only cache the curies if their hrefs are not customized
+		Method method = ReflectionUtils.findMethod(getClass(), "getCurieHref", String.class, UriTemplate.class);
+
+		this.curieInformation = method != null && method.getDeclaringClass().equals(DefaultCurieProvider.class)
+				? new ConcurrentLruCache<>(CURIE_INFORMATION_CAPACITY, __ -> createCurieInformation())
+				: null;
 	}
 
 	/*
@@ -99,6 +114,16 @@ public class DefaultCurieProvider implements CurieProvider {
 	@Override
 	public Collection<?> getCurieInformation(Links links) {
 
+		if (curieInformation == null) {
+			return createCurieInformation();
+		}
+
+		// The curies only vary by the application URI if any of them is relative
+		return curieInformation.get(relativeTemplates ? getApplicationUri() : "");
+	}
+
+	private Collection<?> createCurieInformation() {
+
 		return curies.entrySet().stream() //
 				.map(it -> new Curie(it.getKey(), getCurieHref(it.getKey(), it.getValue()))) //
 				.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableCollection));
@@ -135,12 +160,19 @@ public class DefaultCurieProvider implements CurieProvider {
 	 */
 	protected String getCurieHref(String name, UriTemplate template) {
 
-		if (template.toString().startsWith("http")) {
+		if (isAbsolute(template)) {
 			return template.toString();
 		}
 
-		String applicationUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().expand().toString();
-		return applicationUri.concat(template.toString());
+		return getApplicationUri().concat(template.toString());
+	}
+
+	private static String getApplicationUri() {
+		return BasicLinkBuilder.linkToCurrentMapping().toString();
+	}
+
+	private static boolean isAbsolute(UriTemplate template) {
+		return template.toString().startsWith("http");
 	}
 
 	/**
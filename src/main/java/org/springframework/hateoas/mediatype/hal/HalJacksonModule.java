@@ -47,6 +47,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -119,6 +120,7 @@ public class HalJacksonModule extends SimpleModule {
 		private final EmbeddedMapper mapper;
 		private final MessageResolver resolver;
 		private final HalConfiguration halConfiguration;
+		private final HalLinkRelationCache relations;
 
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageResolver resolver,
 				HalConfiguration halConfiguration) {
@@ -127,6 +129,11 @@ public class HalJacksonModule extends SimpleModule {
 
 		public HalLinkListSerializer(@Nullable BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
 				MessageResolver resolver, HalConfiguration halConfiguration) {
+			this(property, curieProvider, mapper, resolver, halConfiguration, HalLinkRelationCache.of(curieProvider));
+		}
+
+		private HalLinkListSerializer(@Nullable BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
+				MessageResolver resolver, HalConfiguration halConfiguration, HalLinkRelationCache relations) {
 
 			super(Links.class);
 
@@ -140,6 +147,7 @@ public class HalJacksonModule extends SimpleModule {
 			this.mapper = mapper;
 			this.resolver = resolver;
 			this.halConfiguration = halConfiguration;
+			this.relations = relations;
 		}
 
 		/*
@@ -160,8 +168,10 @@ public class HalJacksonModule extends SimpleModule {
 
 			Object currentValue = jgen.currentValue();
 
-			PropertyNamingStrategy propertyNamingStrategy = provider.getConfig().getPropertyNamingStrategy();
-			EmbeddedMapper transformingMapper = halConfiguration.isApplyPropertyNamingStrategy() //
+			PropertyNamingStrategy propertyNamingStrategy = halConfiguration.isApplyPropertyNamingStrategy() //
+					? provider.getConfig().getPropertyNamingStrategy()
+					: null;
+			EmbeddedMapper transformingMapper = propertyNamingStrategy != null //
 					? mapper.with(propertyNamingStrategy)
 					: mapper;
 
@@ -177,8 +187,8 @@ public class HalJacksonModule extends SimpleModule {
 					continue;
 				}
 
-				LinkRelation rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
-				HalLinkRelation relation = transformingMapper.map(rel);
+				HalLinkRelation relation = relations.get(link, propertyNamingStrategy, it -> transformingMapper
+						.map(prefixingRequired ? curieProvider.getNamespacedRelFrom(it) : it.getRel()));
 
 				if (relation.isCuried()) {
 					curiedLinkPresent = true;
@@ -228,7 +238,7 @@ public class HalJacksonModule extends SimpleModule {
 		 */
 		@Override
 		public ValueSerializer<?> createContextual(SerializationContext provider, BeanProperty property) {
-			return new HalLinkListSerializer(property, curieProvider, mapper, resolver, halConfiguration);
+			return new HalLinkListSerializer(property, curieProvider, mapper, resolver, halConfiguration, relations);
 		}
 
 		/*
@@ -860,6 +870,119 @@ public class HalJacksonModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Cache of the {@link HalLinkRelation}s to render for the {@link LinkRelation}s of {@link Link}s, keyed by the
+	 * original relation and the {@link PropertyNamingStrategy} applied. Only used if the {@link CurieProvider} in use
+	 * derives the namespaced relation from the link's relation alone, which is the case for {@link CurieProvider#NONE}
+	 * and {@link DefaultCurieProvider} unless {@link CurieProvider#getNamespacedRelFrom(Link)} is overridden.
+	 *
+	 * @author agent
+	 */
+	static class HalLinkRelationCache {
+
+		private static final int MAX_SIZE = 1024;
+		private static final HalLinkRelationCache NONE = new HalLinkRelationCache(false);
+
+		private final Map<Key, HalLinkRelation> relations = new ConcurrentHashMap<>();
+		private final boolean enabled;
+
+		private HalLinkRelationCache(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		static HalLinkRelationCache of(CurieProvider provider) {
+
+			if (provider == CurieProvider.NONE) {
+				return new HalLinkRelationCache(true);
+			}
+
+			Method method = ReflectionUtils.findMethod(provider.getClass(), "getNamespacedRelFrom", Link.class);
+
+			return method != null && method.getDeclaringClass().equals(DefaultCurieProvider.class)
+					? new HalLinkRelationCache(true)
+					: NONE;
+		}
+
+		/**
+		 * Returns the {@link HalLinkRelation} for the given {@link Link} and {@link PropertyNamingStrategy}, computing it
+		 * using the given {@link Function} if not cached yet.
+		 *
+		 * @param link must not be {@literal null}.
+		 * @param strategy can be {@literal null}.
+		 * @param computer must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		HalLinkRelation get(Link link, @Nullable PropertyNamingStrategy strategy,
+				Function<Link, HalLinkRelation> computer) {
+
+			LinkRelation source = link.getRel();
+
+			// HalLinkRelations carry curie information not reflected in their value
+			if (!enabled || source instanceof HalLinkRelation) {
+				return computer.apply(link);
+			}
+
+			Key key = new Key(source, strategy);
+			HalLinkRelation relation = relations.get(key);
+
+			if (relation != null) {
+				return relation;
+			}
+
+			relation = computer.apply(link);
+
+			// Guard against unbounded growth for applications using dynamically created relations
+			if (relations.size() < MAX_SIZE) {
+				relations.put(key, relation);
+			}
+
+			return relation;
+		}
+
+		private static final class Key {
+
+			private final Class<?> type;
+			private final String relation;
+			private final @Nullable PropertyNamingStrategy strategy;
+			private final int hashCode;
+
+			// Keyed by the relation's value as LinkRelation equality ignores case
+			Key(LinkRelation relation, @Nullable PropertyNamingStrategy strategy) {
+
+				this.type = relation.getClass();
+				this.relation = relation.value();
+				this.strategy = strategy;
+				this.hashCode = 31 * this.relation.hashCode() + System.identityHashCode(strategy);
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Object#equals(java.lang.Object)
+			 */
+			@Override
+			public boolean equals(@Nullable Object o) {
+
+				if (this == o) {
+					return true;
+				}
+
+				return o instanceof Key that //
+						&& strategy == that.strategy //
+						&& type == that.type //
+						&& relation.equals(that.relation);
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Object#hashCode()
+			 */
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+		}
+	}
+
 	static class HalLink {
 
 		private final Link link;
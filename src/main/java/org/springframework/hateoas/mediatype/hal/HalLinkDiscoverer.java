@@ -15,13 +15,20 @@
  */
 package org.springframework.hateoas.mediatype.hal;
 
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.JsonPathLinkDiscoverer;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.JacksonHelper;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 
@@ -36,6 +43,7 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 	private static final String PATH = "_links..['%s']";
 	private static final String JSON_PATH = "$." + PATH;
 	private static final String RECURSIVE_JSON_PATH = "$.." + PATH;
+	private static final JsonMapper MAPPER = JacksonHelper.getPartialReadingMapper();
 
 	/**
 	 * Constructor for {@link MediaTypes#HAL_JSON}.
@@ -66,6 +74,33 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 		};
 	}
 
+	/**
+	 * Streams through the given representation and only materializes its {@code _links} section. Stops reading once
+	 * that has been inspected, so that large {@code _embedded} sections following it don't need to be parsed. Links are
+	 * looked up with the same semantics as {@link #findLinkWithRel(LinkRelation, String)}.
+	 *
+	 * @see org.springframework.hateoas.client.JsonPathLinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 */
+	@Override
+	public Optional<Link> findLinkWithRel(LinkRelation relation, InputStream representation) {
+
+		Assert.notNull(relation, "LinkRelation must not be null!");
+		Assert.notNull(representation, "InputStream must not be null!");
+
+		try (JsonParser parser = MAPPER.createParser(representation)) {
+
+			if (!JacksonHelper.skipToProperty(parser, "_links")) {
+				return Optional.empty();
+			}
+
+			Object links = MAPPER.readValue(parser, Object.class);
+
+			return links == null //
+					? Optional.empty() //
+					: findLinksWithRel(relation, Collections.singletonMap("_links", links)).stream().findFirst();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#extractLink(java.lang.Object, org.springframework.hateoas.LinkRelation)
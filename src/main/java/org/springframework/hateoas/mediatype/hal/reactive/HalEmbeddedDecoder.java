@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.async.ByteArrayFeeder;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.codec.JacksonCodecSupport;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link Decoder} for HAL documents that emits the elements contained in the document's {@code _embedded} clause one
+ * by one while the response is still being read, instead of materializing the entire document before the first
+ * element can be used. Used when decoding a HAL response into a {@link Flux} of {@link RepresentationModel}s (e.g.
+ * {@code EntityModel<T>}). Documents without an {@code _embedded} clause are emitted as a single element, unless they
+ * are a collection without any elements, i.e. contain page metadata or nothing but links. An {@code _embedded} clause
+ * set to {@literal null} is considered empty. The elements of a top-level JSON array are emitted one by one.
+ * <p>
+ * As every document with an {@code _embedded} clause is considered a collection, the decoder is not registered by
+ * default but has to be registered explicitly, e.g. via
+ * {@link org.springframework.hateoas.config.HypermediaWebClientConfigurer#registerHalEmbeddedDecoder}.
+ * <p>
+ * The top-level links and page metadata of the document can be obtained by registering a {@link Consumer} via
+ * {@link #withEnvelopeConsumer(Consumer)} in the subscriber's {@link Context}. Decoding to a {@link Mono} is delegated
+ * to a {@link JacksonJsonDecoder}.
+ *
+ * @author agent
+ * @since 3.2
+ */
+public class HalEmbeddedDecoder implements Decoder<Object> {
+
+	private static final String EMBEDDED = "_embedded";
+	private static final String LINKS = "_links";
+	private static final String PAGE = "page";
+	private static final String ENVELOPE_CONSUMER_KEY = HalEmbeddedDecoder.class.getName() + ".ENVELOPE_CONSUMER";
+	private static final List<MimeType> MIME_TYPES = List.of(MediaTypes.HAL_JSON, MediaTypes.VND_HAL_JSON);
+	private static final String LIMIT_EXCEEDED = "Exceeded limit on max bytes per JSON object: ";
+
+	private final JsonMapper mapper;
+	private final JacksonJsonDecoder delegate;
+
+	private int maxInMemorySize = 256 * 1024;
+
+	/**
+	 * Creates a new {@link HalEmbeddedDecoder} using the given {@link JsonMapper}, which has to be configured to read
+	 * HAL.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 */
+	public HalEmbeddedDecoder(JsonMapper mapper) {
+
+		Assert.notNull(mapper, "JsonMapper must not be null!");
+
+		this.mapper = mapper;
+		this.delegate = new JacksonJsonDecoder(mapper, MIME_TYPES.toArray(MimeType[]::new));
+		this.delegate.setMaxInMemorySize(maxInMemorySize);
+	}
+
+	/**
+	 * Configures the maximum number of bytes to buffer for a single element of the {@code _embedded} clause as well as
+	 * for the remainder of the document. Also applies to documents decoded to a {@link Mono}. Defaults to 256K, set to
+	 * -1 to buffer without limit.
+	 *
+	 * @param byteCount the maximum number of bytes to buffer.
+	 */
+	public void setMaxInMemorySize(int byteCount) {
+
+		this.maxInMemorySize = byteCount;
+		this.delegate.setMaxInMemorySize(byteCount);
+	}
+
+	/**
+	 * Returns the maximum number of bytes to buffer.
+	 *
+	 * @return the configured limit, -1 if unlimited.
+	 * @see #setMaxInMemorySize(int)
+	 */
+	public int getMaxInMemorySize() {
+		return maxInMemorySize;
+	}
+
+	/**
+	 * Returns a {@link ContextView} registering the given {@link Consumer} to be handed the top-level
+	 * {@link CollectionModel} of a HAL document decoded by a {@link HalEmbeddedDecoder}, i.e. a model with the
+	 * document's links but without its content. For documents containing page metadata, that will be a
+	 * {@link PagedModel}. Apply it to the {@link Flux} of elements using {@link Flux#contextWrite(ContextView)}.
+	 *
+	 * @param consumer must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ContextView withEnvelopeConsumer(Consumer<? super CollectionModel<?>> consumer) {
+
+		Assert.notNull(consumer, "Consumer must not be null!");
+
+		return Context.of(ENVELOPE_CONSUMER_KEY, consumer);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.codec.Decoder#canDecode(org.springframework.core.ResolvableType, org.springframework.util.MimeType)
+	 */
+	@Override
+	public boolean canDecode(ResolvableType elementType, @Nullable MimeType mimeType) {
+
+		if (mimeType == null || MIME_TYPES.stream().noneMatch(it -> it.isCompatibleWith(mimeType))) {
+			return false;
+		}
+
+		Class<?> type = elementType.toClass();
+
+		return RepresentationModel.class.isAssignableFrom(type) && !CollectionModel.class.isAssignableFrom(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.codec.Decoder#getDecodableMimeTypes()
+	 */
+	@Override
+	public List<MimeType> getDecodableMimeTypes() {
+		return MIME_TYPES;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.codec.Decoder#decode(org.reactivestreams.Publisher, org.springframework.core.ResolvableType, org.springframework.util.MimeType, java.util.Map)
+	 */
+	@Override
+	public Flux<Object> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		ObjectReader reader = getReader(elementType, hints);
+
+		return Flux.deferContextual(context -> {
+
+			EmbeddedTokenizer tokenizer = new EmbeddedTokenizer(mapper.createNonBlockingByteArrayParser());
+			Consumer<CollectionModel<?>> consumer = context.getOrDefault(ENVELOPE_CONSUMER_KEY, null);
+
+			return Flux.from(inputStream) //
+					.concatMapIterable(tokenizer::tokenize) //
+					.concatWith(Flux.defer(() -> tokenizer.endOfInput(consumer))) //
+					.map(it -> read(it, reader));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.codec.Decoder#decodeToMono(org.reactivestreams.Publisher, org.springframework.core.ResolvableType, org.springframework.util.MimeType, java.util.Map)
+	 */
+	@Override
+	public Mono<Object> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+		return delegate.decodeToMono(inputStream, elementType, mimeType, hints);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.codec.Decoder#decode(org.springframework.core.io.buffer.DataBuffer, org.springframework.core.ResolvableType, org.springframework.util.MimeType, java.util.Map)
+	 */
+	@Override
+	public @Nullable Object decode(DataBuffer buffer, ResolvableType targetType, @Nullable MimeType mimeType,
+			@Nullable Map<String, Object> hints) throws DecodingException {
+		return delegate.decode(buffer, targetType, mimeType, hints);
+	}
+
+	private ObjectReader getReader(ResolvableType elementType, @Nullable Map<String, Object> hints) {
+
+		ObjectReader reader = mapper.readerFor(mapper.constructType(elementType.getType()));
+		Class<?> view = hints == null ? null : (Class<?>) hints.get(JacksonCodecSupport.JSON_VIEW_HINT);
+
+		return view == null ? reader : reader.withView(view);
+	}
+
+	private static Object read(TokenBuffer buffer, ObjectReader reader) {
+
+		try {
+			return reader.readValue(buffer);
+		} catch (JacksonException o_O) {
+			throw new DecodingException("Could not decode HAL element: " + o_O.getOriginalMessage(), o_O);
+		}
+	}
+
+	/**
+	 * Splits a HAL document fed in chunks into {@link TokenBuffer}s for the individual elements of its
+	 * {@code _embedded} clause, while buffering the remainder of the document as envelope. Enforces the configured
+	 * maximum in-memory size for every element and the envelope.
+	 *
+	 * @author agent
+	 */
+	private class EmbeddedTokenizer {
+
+		private final JsonParser parser;
+		private final ByteArrayFeeder feeder;
+		private final TokenBuffer envelope;
+
+		private int depth;
+		private boolean object, array, embeddedFound, embeddedPending, inEmbedded, paged, content;
+		private @Nullable TokenBuffer element;
+		private int elementDepth;
+		private long bytesFed, tokenEnd, elementStart, envelopeSize;
+
+		EmbeddedTokenizer(JsonParser parser) {
+
+			this.parser = parser;
+			this.feeder = (ByteArrayFeeder) parser.nonBlockingInputFeeder();
+			this.envelope = TokenBuffer.forBuffering(parser, parser.objectReadContext());
+		}
+
+		List<TokenBuffer> tokenize(DataBuffer buffer) {
+
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			DataBufferUtils.release(buffer);
+
+			try {
+
+				feeder.feedInput(bytes, 0, bytes.length);
+				bytesFed += bytes.length;
+
+				List<TokenBuffer> result = new ArrayList<>();
+				parseTokens(result);
+
+				// Bytes of the element currently read or of a token not yet complete
+				if (maxInMemorySize >= 0 && bytesFed - (element != null ? elementStart : tokenEnd) > maxInMemorySize) {
+					throw new DataBufferLimitException(LIMIT_EXCEEDED + maxInMemorySize);
+				}
+
+				return result;
+
+			} catch (JacksonException o_O) {
+				throw new DecodingException("JSON decoding error: " + o_O.getOriginalMessage(), o_O);
+			}
+		}
+
+		Flux<TokenBuffer> endOfInput(@Nullable Consumer<CollectionModel<?>> consumer) {
+
+			try {
+
+				feeder.endOfInput();
+
+				List<TokenBuffer> result = new ArrayList<>();
+				parseTokens(result);
+
+				// No document or a top-level array
+				if (!object) {
+					return Flux.fromIterable(result);
+				}
+
+				// A single resource rather than a collection
+				if (!embeddedFound && !paged && content) {
+					result.add(envelope);
+				} else if (consumer != null) {
+
+					Class<?> modelType = paged ? PagedModel.class : CollectionModel.class;
+					JavaType type = mapper.getTypeFactory().constructParametricType(modelType, Object.class);
+
+					consumer.accept((CollectionModel<?>) read(envelope, mapper.readerFor(type)));
+				}
+
+				return Flux.fromIterable(result);
+
+			} catch (JacksonException o_O) {
+				return Flux.error(new DecodingException("JSON decoding error: " + o_O.getOriginalMessage(), o_O));
+			}
+		}
+
+		private void parseTokens(List<TokenBuffer> result) {
+
+			JsonToken token;
+
+			while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				processToken(token, result);
+				tokenEnd = parser.currentLocation().getByteOffset();
+			}
+		}
+
+		private void processToken(JsonToken token, List<TokenBuffer> result) {
+
+			TokenBuffer element = this.element;
+
+			// Inside an element of the _embedded clause
+			if (element != null) {
+
+				element.copyCurrentEvent(parser);
+				updateDepth(token);
+
+				if (depth == elementDepth) {
+					result.add(element);
+					this.element = null;
+				}
+
+				return;
+			}
+
+			if (embeddedPending) {
+
+				embeddedPending = false;
+				embeddedFound = true;
+
+				if (token == JsonToken.VALUE_NULL) {
+					return;
+				}
+
+				if (token != JsonToken.START_OBJECT) {
+					throw new DecodingException("Expected _embedded clause to be a JSON object!");
+				}
+
+				inEmbedded = true;
+				updateDepth(token);
+
+				return;
+			}
+
+			if (inEmbedded) {
+
+				// Element in a relation's array or single element for a relation
+				if ((depth == 3 || depth == 2 && token == JsonToken.START_OBJECT) && startElement(token, result)) {
+					return;
+				}
+
+				updateDepth(token);
+
+				if (depth == 1) {
+					inEmbedded = false;
+				}
+
+				return;
+			}
+
+			// Element of a top-level array
+			if (array) {
+
+				if (depth == 1 && startElement(token, result)) {
+					return;
+				}
+
+				updateDepth(token);
+
+				return;
+			}
+
+			if (depth == 0) {
+
+				if (token == JsonToken.START_ARRAY) {
+
+					array = true;
+					updateDepth(token);
+
+					return;
+				}
+
+				if (token != JsonToken.START_OBJECT) {
+					throw new DecodingException("Expected HAL document to be a JSON object or array!");
+				}
+
+				object = true;
+			}
+
+			if (depth == 1 && token == JsonToken.PROPERTY_NAME) {
+
+				String name = parser.currentName();
+
+				if (EMBEDDED.equals(name)) {
+					embeddedPending = true;
+					return;
+				}
+
+				if (PAGE.equals(name)) {
+					paged = true;
+				} else if (!LINKS.equals(name)) {
+					content = true;
+				}
+			}
+
+			envelope.copyCurrentEvent(parser);
+			envelopeSize += parser.currentLocation().getByteOffset() - tokenEnd;
+			updateDepth(token);
+
+			if (maxInMemorySize >= 0 && envelopeSize > maxInMemorySize) {
+				throw new DataBufferLimitException(LIMIT_EXCEEDED + maxInMemorySize);
+			}
+		}
+
+		/**
+		 * Starts buffering an element at the current token, or adds it to the given result right away if it is a scalar
+		 * value.
+		 *
+		 * @param token the current token, must not be {@literal null}.
+		 * @param result must not be {@literal null}.
+		 * @return whether the token was consumed as start of an element.
+		 */
+		private boolean startElement(JsonToken token, List<TokenBuffer> result) {
+
+			if (!token.isStructStart() && !token.isScalarValue()) {
+				return false;
+			}
+
+			TokenBuffer buffer = TokenBuffer.forBuffering(parser, parser.objectReadContext());
+			buffer.copyCurrentEvent(parser);
+
+			if (token.isScalarValue()) {
+				result.add(buffer);
+				return true;
+			}
+
+			this.element = buffer;
+			this.elementDepth = depth;
+			this.elementStart = tokenEnd;
+
+			updateDepth(token);
+
+			return true;
+		}
+
+		private void updateDepth(JsonToken token) {
+
+			if (token.isStructStart()) {
+				depth++;
+			} else if (token.isStructEnd()) {
+				depth--;
+			}
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Reactive codecs for HAL.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.hateoas.mediatype.hal.reactive;
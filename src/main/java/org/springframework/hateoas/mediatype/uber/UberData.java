@@ -29,6 +29,8 @@ import java.util.stream.Collectors;
 import org.jspecify.annotations.NullUnmarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CursorModel;
+import org.springframework.hateoas.CursorModel.CursorMetadata;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
@@ -77,7 +79,8 @@ final class UberData {
 	 * Set of all Spring HATEOAS resource types.
 	 */
 	private static final HashSet<Class<?>> RESOURCE_TYPES = new HashSet<>(
-			Arrays.asList(RepresentationModel.class, EntityModel.class, CollectionModel.class, PagedModel.class));
+			Arrays.asList(RepresentationModel.class, EntityModel.class, CollectionModel.class, PagedModel.class,
+					CursorModel.class));
 
 	@JsonCreator
 	UberData(@JsonProperty("id") @Nullable String id,
@@ -227,6 +230,30 @@ final class UberData {
 		return collectionOfResources;
 	}
 
+	static List<UberData> extractLinksAndContent(CursorModel<?> resources) {
+
+		List<UberData> collectionOfResources = extractLinksAndContent((CollectionModel<?>) resources);
+		CursorMetadata metadata = resources.getMetadata();
+
+		if (metadata != null) {
+
+			List<UberData> cursor = new ArrayList<>();
+			cursor.add(new UberData().withName("size").withValue(metadata.getSize()));
+
+			if (metadata.getNext() != null) {
+				cursor.add(new UberData().withName("next").withValue(metadata.getNext()));
+			}
+
+			if (metadata.getPrevious() != null) {
+				cursor.add(new UberData().withName("previous").withValue(metadata.getPrevious()));
+			}
+
+			collectionOfResources.add(new UberData().withName("cursor").withData(cursor));
+		}
+
+		return collectionOfResources;
+	}
+
 	/**
 	 * Convert a {@link List} of {@link Link}s into a list of {@link UberData}.
 	 *
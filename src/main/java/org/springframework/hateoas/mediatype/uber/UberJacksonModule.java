@@ -48,6 +48,8 @@ import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CursorModel;
+import org.springframework.hateoas.CursorModel.CursorMetadata;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
@@ -76,6 +78,7 @@ public class UberJacksonModule extends SimpleModule {
 		super("uber-module", new Version(1, 0, 0, null, "org.springframework.hateoas", "spring-hateoas"));
 
 		addSerializer(new UberPagedModelSerializer());
+		addSerializer(new UberCursorModelSerializer());
 		addSerializer(new UberCollectionModelSerializer());
 		addSerializer(new UberEntityModelSerializer());
 		addSerializer(new UberRepresentationModelSerializer());
@@ -84,6 +87,7 @@ public class UberJacksonModule extends SimpleModule {
 		setMixInAnnotation(EntityModel.class, EntityModelMixin.class);
 		setMixInAnnotation(CollectionModel.class, CollectionModelMixin.class);
 		setMixInAnnotation(PagedModel.class, PagedModelMixin.class);
+		setMixInAnnotation(CursorModel.class, CursorModelMixin.class);
 	}
 
 	/**
@@ -122,6 +126,15 @@ public class UberJacksonModule extends SimpleModule {
 	@JsonDeserialize(using = UberPagedModelDeserializer.class)
 	abstract class PagedModelMixin<T> extends PagedModel<T> {}
 
+	/**
+	 * Jackson mixin to handle {@link CursorModel} for {@literal UBER+JSON}.
+	 *
+	 * @author agent
+	 * @since 3.2
+	 */
+	@JsonDeserialize(using = UberCursorModelDeserializer.class)
+	abstract class CursorModelMixin<T> extends CursorModel<T> {}
+
 	/**
 	 * Custom {@link ValueSerializer} to render {@link RepresentationModel} into {@literal UBER+JSON}.
 	 */
@@ -502,6 +515,101 @@ public class UberJacksonModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Custom {@link ValueSerializer} to render {@link CursorModel} into {@literal UBER+JSON}.
+	 */
+	static class UberCursorModelSerializer extends StdContainerSerializer<CursorModel<?>> {
+
+		private @Nullable BeanProperty property;
+
+		UberCursorModelSerializer(@Nullable BeanProperty property) {
+
+			super(CursorModel.class);
+			this.property = property;
+		}
+
+		UberCursorModelSerializer() {
+			this(null);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ser.std.StdSerializer#serialize(java.lang.Object, tools.jackson.core.JsonGenerator, tools.jackson.databind.SerializationContext)
+		 */
+		@Override
+		@SuppressWarnings("null")
+		public void serialize(CursorModel<?> value, JsonGenerator gen, SerializationContext provider) {
+
+			UberDocument doc = new UberDocument() //
+					.withUber(new Uber() //
+							.withVersion("1.0") //
+							.withData(extractLinksAndContent(value)));
+
+			provider.findPrimaryPropertySerializer(UberDocument.class, property)
+					.serialize(doc, gen, provider);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ser.std.StdContainerSerializer#getContentType()
+		 */
+		@Override
+		@Nullable
+		public JavaType getContentType() {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ser.std.StdContainerSerializer#getContentSerializer()
+		 */
+		@Override
+		@Nullable
+		public ValueSerializer<?> getContentSerializer() {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ser.std.StdContainerSerializer#isEmpty(tools.jackson.databind.SerializationContext, java.lang.Object)
+		 */
+		@Override
+		public boolean isEmpty(SerializationContext prov, CursorModel<?> value) {
+			return value.getContent().isEmpty();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ser.std.StdContainerSerializer#hasSingleElement(java.lang.Object)
+		 */
+		@Override
+		@SuppressWarnings("null")
+		public boolean hasSingleElement(CursorModel<?> value) {
+			return value.getContent().size() == 1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ser.std.StdContainerSerializer#_withValueTypeSerializer(tools.jackson.databind.jsontype.TypeSerializer)
+		 */
+		@Override
+		@Nullable
+		@SuppressWarnings("null")
+		protected StdContainerSerializer<?> _withValueTypeSerializer(TypeSerializer vts) {
+			return null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ValueSerializer#createContextual(tools.jackson.databind.SerializationContext, tools.jackson.databind.BeanProperty)
+		 */
+		@Override
+		@SuppressWarnings("null")
+		public ValueSerializer<?> createContextual(SerializationContext prov, BeanProperty property) {
+			return new UberCursorModelSerializer(property);
+		}
+	}
+
 	/**
 	 * Custom {@link StdDeserializer} to deserialize {@link RepresentationModel}.
 	 */
@@ -825,6 +933,72 @@ public class UberJacksonModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Custom {@link StdDeserializer} to deserialize {@link CursorModel}.
+	 */
+	static class UberCursorModelDeserializer extends ContainerDeserializerBase<CursorModel<?>> {
+
+		private JavaType contentType;
+
+		UberCursorModelDeserializer(JavaType contentType) {
+
+			super(contentType);
+			this.contentType = contentType;
+		}
+
+		UberCursorModelDeserializer() {
+			this(TYPE_FACTORY.constructSimpleType(UberDocument.class, new JavaType[0]));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ValueDeserializer#deserialize(tools.jackson.core.JsonParser, tools.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		@SuppressWarnings("null")
+		public CursorModel<?> deserialize(JsonParser p, DeserializationContext ctxt) {
+
+			JavaType rootType = JacksonHelper.findRootType(this.contentType);
+
+			UberDocument doc = p.readValueAs(UberDocument.class);
+
+			CollectionModel<?> resources = extractResources(doc, rootType, this.contentType, ctxt);
+			CursorMetadata cursorMetadata = extractCursorMetadata(doc);
+
+			return CursorModel.of(resources.getContent(), cursorMetadata, resources.getLinks());
+		}
+
+		/**
+		 * Accessor for declared type of contained value elements; either exact type, or one of its supertypes.
+		 */
+		@Override
+		public JavaType getContentType() {
+			return this.contentType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see tools.jackson.databind.ValueDeserializer#createContextual(tools.jackson.databind.DeserializationContext, tools.jackson.databind.BeanProperty)
+		 */
+		@Override
+		@SuppressWarnings("null")
+		public ValueDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+
+			JavaType type = property == null ? ctxt.getContextualType() : property.getType().getContentType();
+
+			return new UberCursorModelDeserializer(type);
+		}
+
+		/**
+		 * Accessor for deserializer use for deserializing content values.
+		 */
+		@Override
+		@Nullable
+		public ValueDeserializer<Object> getContentDeserializer() {
+			return null;
+		}
+	}
+
 	/**
 	 * Convert an {@link UberDocument} into a {@link CollectionModel}.
 	 *
@@ -843,7 +1017,7 @@ public class UberJacksonModule extends SimpleModule {
 
 			String name = uberData.getName();
 
-			if (name != null && name.equals("page")) {
+			if (name != null && (name.equals("page") || name.equals("cursor"))) {
 				continue;
 			}
 
@@ -977,6 +1151,56 @@ public class UberJacksonModule extends SimpleModule {
 		return new PageMetadata(size, number, totalElements, totalPages);
 	}
 
+	@Nullable
+	private static CursorMetadata extractCursorMetadata(UberDocument doc) {
+
+		return doc.getUber().getData().stream() //
+				.filter(uberData -> Optional.ofNullable(uberData.getName()).map("cursor"::equals).orElse(false)) //
+				.findFirst().map(UberJacksonModule::convertUberDataToCursorMetadata) //
+				.orElse(null);
+	}
+
+	private static CursorMetadata convertUberDataToCursorMetadata(UberData uberData) {
+
+		long size = 0;
+		String next = null;
+		String previous = null;
+
+		List<UberData> content = uberData.getData();
+
+		if (content != null) {
+
+			for (UberData data : content) {
+
+				String name = data.getName();
+				Object value = data.getValue();
+
+				if (name == null || value == null) {
+					continue;
+				}
+
+				switch (name) {
+
+					case "size":
+						size = ((Number) value).longValue();
+						break;
+
+					case "next":
+						next = value.toString();
+						break;
+
+					case "previous":
+						previous = value.toString();
+						break;
+
+					default:
+				}
+			}
+		}
+
+		return new CursorMetadata(size, next, previous);
+	}
+
 	/**
 	 * Customer deserializer to handle {@link UberAction}.
 	 */
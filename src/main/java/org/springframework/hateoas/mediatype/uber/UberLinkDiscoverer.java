@@ -15,9 +15,14 @@
  */
 package org.springframework.hateoas.mediatype.uber;
 
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 
 import java.io.InputStream;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.hateoas.Link;
@@ -25,6 +30,7 @@ import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.LinkDiscoverer;
+import org.springframework.hateoas.mediatype.JacksonHelper;
 import org.springframework.http.MediaType;
 
 /**
@@ -39,12 +45,16 @@ import org.springframework.http.MediaType;
 public class UberLinkDiscoverer implements LinkDiscoverer {
 
 	private final JsonMapper mapper;
+	private final ObjectReader relsReader;
 
 	UberLinkDiscoverer() {
 
 		this.mapper = JsonMapper.builder()
 				.addModule(new UberJacksonModule())
 				.build();
+
+		this.relsReader = mapper.readerFor(List.class) //
+				.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
 	}
 
 	/*
@@ -66,9 +76,33 @@ public class UberLinkDiscoverer implements LinkDiscoverer {
 	@Override
 	public Optional<Link> findLinkWithRel(LinkRelation rel, InputStream representation) {
 
-		return getLinks(representation).stream() //
-				.filter(it -> it.hasRel(rel)) //
-				.findFirst();
+		try (JsonParser parser = mapper.createParser(representation)) {
+
+			if (!JacksonHelper.skipToProperty(parser, "uber") //
+					|| !parser.hasToken(JsonToken.START_OBJECT) //
+					|| !JacksonHelper.skipToProperty(parser, "data") //
+					|| !parser.hasToken(JsonToken.START_ARRAY)) {
+				return Optional.empty();
+			}
+
+			JsonToken token;
+
+			while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+
+				if (token != JsonToken.START_OBJECT) {
+					parser.skipChildren();
+					continue;
+				}
+
+				Optional<Link> link = findLink(parser, rel);
+
+				if (link.isPresent()) {
+					return link;
+				}
+			}
+
+			return Optional.empty();
+		}
 	}
 
 	/*
@@ -104,6 +138,46 @@ public class UberLinkDiscoverer implements LinkDiscoverer {
 		return delimiter.isCompatibleWith(MediaTypes.UBER_JSON);
 	}
 
+	/**
+	 * Reads the {@code rel} and {@code url} attributes of the data element the given {@link JsonParser} is positioned
+	 * at, skipping nested data elements without materializing them.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param rel must not be {@literal null}.
+	 * @return
+	 */
+	private Optional<Link> findLink(JsonParser parser, LinkRelation rel) {
+
+		List<?> rels = null;
+		String url = null;
+
+		while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+
+			String name = parser.currentName();
+			JsonToken value = parser.nextToken();
+
+			if ("rel".equals(name) && value == JsonToken.START_ARRAY) {
+				rels = relsReader.readValue(parser);
+			} else if ("url".equals(name) && value == JsonToken.VALUE_STRING) {
+				url = parser.getString();
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		if (url == null || rels == null) {
+			return Optional.empty();
+		}
+
+		String target = url;
+
+		return rels.stream() //
+				.map(Object::toString) //
+				.map(it -> Link.of(target, it)) //
+				.filter(it -> it.hasRel(rel)) //
+				.findFirst();
+	}
+
 	/**
 	 * Deserialize the entire document to find links.
 	 *
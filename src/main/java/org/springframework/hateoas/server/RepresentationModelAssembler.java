@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.server;
 
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -37,17 +38,31 @@ public interface RepresentationModelAssembler<T, D extends RepresentationModel<?
 	 */
 	D toModel(T entity);
 
+	/**
+	 * Converts all given entities into {@code D}s at once. Override this method to prepare data needed for all models
+	 * up front, e.g. to look up auxiliary information for all entities in a single query rather than one per entity. The
+	 * default implementation converts each entity individually via {@link #toModel(Object)}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return the {@code D}s in the order of the given entities, will never be {@literal null}.
+	 * @since 3.2
+	 */
+	default List<D> toModels(Iterable<? extends T> entities) {
+
+		return StreamSupport.stream(entities.spliterator(), false) //
+				.map(this::toModel) //
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Converts an {@link Iterable} or {@code T}s into an {@link Iterable} of {@link RepresentationModel} and wraps them
 	 * in a {@link CollectionModel} instance.
 	 *
 	 * @param entities must not be {@literal null}.
 	 * @return {@link CollectionModel} containing {@code D}.
+	 * @see #toModels(Iterable)
 	 */
 	default CollectionModel<D> toCollectionModel(Iterable<? extends T> entities) {
-
-		return StreamSupport.stream(entities.spliterator(), false) //
-				.map(this::toModel) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), CollectionModel::of));
+		return CollectionModel.of(toModels(entities));
 	}
 }
@@ -15,9 +15,6 @@
  */
 package org.springframework.hateoas.server;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.util.Assert;
@@ -55,6 +52,7 @@ public interface SimpleRepresentationModelAssembler<T> extends RepresentationMod
 	 * Converts all given entities into resources and wraps the collection as a resource as well.
 	 *
 	 * @see #toModel(Object)
+	 * @see #toModels(Iterable)
 	 * @param entities must not be {@literal null}.
 	 * @return {@link CollectionModel} containing {@link EntityModel} of {@code T}.
 	 */
@@ -62,13 +60,8 @@ public interface SimpleRepresentationModelAssembler<T> extends RepresentationMod
 	default CollectionModel<EntityModel<T>> toCollectionModel(Iterable<? extends T> entities) {
 
 		Assert.notNull(entities, "entities must not be null!");
-		List<EntityModel<T>> resourceList = new ArrayList<>();
-
-		for (T entity : entities) {
-			resourceList.add(toModel(entity));
-		}
 
-		CollectionModel<EntityModel<T>> resources = CollectionModel.of(resourceList);
+		CollectionModel<EntityModel<T>> resources = CollectionModel.of(toModels(entities));
 		addLinks(resources);
 		return resources;
 	}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * Thread-scoped signal whether the {@link Affordance}s of links built via {@link WebHandler} are needed at all. Links
+ * built while affordances are not demanded don't carry any, which avoids inspecting and assembling them for responses
+ * rendered in a media type that can't express them anyway. The link builders for Spring MVC and WebFlux derive the
+ * default from the {@code Accept} header of the current request. Application code can explicitly declare the demand
+ * using {@link #withAffordances(Supplier)} and {@link #withoutAffordances(Supplier)}, which takes precedence.
+ *
+ * @author agent
+ * @since 3.2
+ */
+public final class AffordanceDemand {
+
+	private static final ThreadLocal<@Nullable Boolean> DEMANDED = new NamedThreadLocal<>("Affordance demand");
+	private static final List<MediaType> NON_AFFORDANCE_MEDIA_TYPES = List.of(MediaTypes.HAL_JSON);
+
+	private AffordanceDemand() {}
+
+	/**
+	 * Returns whether affordances are demanded for links built in the current thread. Defaults to {@literal true} if
+	 * nothing has been declared.
+	 *
+	 * @return
+	 */
+	public static boolean isDemanded() {
+
+		Boolean demanded = DEMANDED.get();
+
+		return demanded == null || demanded;
+	}
+
+	/**
+	 * Returns whether a response for a request accepting the given {@link MediaType}s might need to render
+	 * affordances. That's considered to be the case unless all of them explicitly select a media type known not to be
+	 * able to express affordances, like {@link MediaTypes#HAL_JSON}.
+	 *
+	 * @param accepted must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean isDemandedFor(Collection<MediaType> accepted) {
+
+		Assert.notNull(accepted, "Accepted media types must not be null!");
+
+		return accepted.isEmpty() || accepted.stream().anyMatch(AffordanceDemand::mightRenderAffordances);
+	}
+
+	/**
+	 * Invokes the given {@link Supplier} with affordances being built for all links created in the current thread.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return the callback's result.
+	 */
+	public static <T> T withAffordances(Supplier<T> callback) {
+		return declare(true, callback);
+	}
+
+	/**
+	 * Invokes the given {@link Supplier} without any affordances being built for links created in the current thread.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return the callback's result.
+	 */
+	public static <T> T withoutAffordances(Supplier<T> callback) {
+		return declare(false, callback);
+	}
+
+	/**
+	 * Invokes the given {@link Supplier} with the given demand applied, unless a demand has already been declared for
+	 * the current thread. Used by the link builders to apply the demand derived from the current request.
+	 *
+	 * @param demanded whether affordances are demanded.
+	 * @param callback must not be {@literal null}.
+	 * @return the callback's result.
+	 */
+	public static <T> T withDefault(boolean demanded, Supplier<T> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return DEMANDED.get() != null ? callback.get() : declare(demanded, callback);
+	}
+
+	private static <T> T declare(boolean demanded, Supplier<T> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		Boolean previous = DEMANDED.get();
+
+		DEMANDED.set(demanded);
+
+		try {
+			return callback.get();
+		} finally {
+
+			if (previous == null) {
+				DEMANDED.remove();
+			} else {
+				DEMANDED.set(previous);
+			}
+		}
+	}
+
+	private static boolean mightRenderAffordances(MediaType mediaType) {
+
+		if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+			return true;
+		}
+
+		return NON_AFFORDANCE_MEDIA_TYPES.stream().noneMatch(mediaType::equalsTypeAndSubtype);
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.support.HateoasCache;
+import org.springframework.hateoas.support.HateoasCacheManager;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Process-wide cache of the base {@link UriComponents} links are built on, keyed by the scheme, host, port and path
+ * prefix of the request they're built for. Those are usually determined by the server's address or — behind a proxy
+ * and with forwarded headers applied — the handful of different public addresses of the application. As the host is
+ * taken from the request's {@code Host} or forwarded headers, clients can send arbitrary values, so that the cache is
+ * bounded to 64 entries, evicting the least recently used ones.
+ *
+ * @author agent
+ * @since 3.2
+ */
+public final class BaseUriCache {
+
+	private static final HateoasCache<Key, UriComponents> CACHE = HateoasCacheManager.getInstance()
+			.getBoundedCache("base-uris", 64, Key::toComponents);
+
+	private BaseUriCache() {}
+
+	/**
+	 * Returns the base {@link UriComponents} for the given scheme, host, port and path segments.
+	 *
+	 * @param scheme can be {@literal null}.
+	 * @param host can be {@literal null}.
+	 * @param port the port, {@literal -1} to not render any.
+	 * @param contextPath must not be {@literal null}.
+	 * @param servletPath must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static UriComponents getBaseUri(@Nullable String scheme, @Nullable String host, int port, String contextPath,
+			String servletPath) {
+
+		Assert.notNull(contextPath, "Context path must not be null!");
+		Assert.notNull(servletPath, "Servlet path must not be null!");
+
+		return Objects.requireNonNull(CACHE.get(new Key(scheme, host, port, contextPath, servletPath)));
+	}
+
+	private static final class Key {
+
+		private final @Nullable String scheme, host;
+		private final String contextPath, servletPath;
+		private final int port;
+
+		Key(@Nullable String scheme, @Nullable String host, int port, String contextPath, String servletPath) {
+
+			this.scheme = scheme;
+			this.host = host;
+			this.port = port;
+			this.contextPath = contextPath;
+			this.servletPath = servletPath;
+		}
+
+		UriComponents toComponents() {
+
+			return UriComponentsBuilder.newInstance() //
+					.scheme(scheme) //
+					.host(host) //
+					.port(port) //
+					.path(contextPath) //
+					.path(servletPath) //
+					.build();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key that)) {
+				return false;
+			}
+
+			return port == that.port //
+					&& Objects.equals(scheme, that.scheme) //
+					&& Objects.equals(host, that.host) //
+					&& contextPath.equals(that.contextPath) //
+					&& servletPath.equals(that.servletPath);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(scheme, host, port, contextPath, servletPath);
+		}
+	}
+}
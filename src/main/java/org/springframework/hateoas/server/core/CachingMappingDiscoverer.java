@@ -17,17 +17,20 @@ package org.springframework.hateoas.server.core;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.support.HateoasCache;
+import org.springframework.hateoas.support.HateoasCacheManager;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.util.ConcurrentReferenceHashMap;
-import org.springframework.util.StringUtils;
 
 /**
- * Caching adapter of {@link MappingDiscoverer}.
+ * Caching adapter of {@link MappingDiscoverer}. All mapping information of a handler method is discovered at once and
+ * held in a single {@link HateoasCache} obtained from the {@link HateoasCacheManager}, keyed by the {@link Class} and
+ * {@link Method} instances themselves as well as the delegate, as the cache is shared by all instances.
  *
  * @author Michal Stochmialek
  * @author Oliver Drotbohm
@@ -35,10 +38,8 @@ import org.springframework.util.StringUtils;
  */
 public class CachingMappingDiscoverer implements MappingDiscoverer {
 
-	private static final Map<String, UriMapping> MAPPINGS = new ConcurrentReferenceHashMap<>();
-	private static final Map<String, Collection<HttpMethod>> METHODS = new ConcurrentReferenceHashMap<>();
-	private static final Map<String, String[]> PARAMS = new ConcurrentReferenceHashMap<>();
-	private static final Map<String, List<MediaType>> CONSUMES = new ConcurrentReferenceHashMap<>();
+	private static final HateoasCache<MethodKey, MappingMetadata> MAPPINGS = HateoasCacheManager.getInstance()
+			.getCache("mappings", 2048, MappingMetadata::of);
 
 	private final MappingDiscoverer delegate;
 
@@ -57,10 +58,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	@Nullable
 	@Override
 	public UriMapping getUriMapping(Class<?> type) {
-
-		String key = key(type, null);
-
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getUriMapping(type));
+		return getMetadata(type, null).mapping;
 	}
 
 	/*
@@ -70,7 +68,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	@Nullable
 	@Override
 	public UriMapping getUriMapping(Method method) {
-		return MAPPINGS.computeIfAbsent(key(method), __ -> delegate.getUriMapping(method));
+		return getMetadata(method.getDeclaringClass(), method).mapping;
 	}
 
 	/*
@@ -80,10 +78,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	@Nullable
 	@Override
 	public UriMapping getUriMapping(Class<?> type, Method method) {
-
-		String key = key(type, method);
-
-		return MAPPINGS.computeIfAbsent(key, __ -> delegate.getUriMapping(type, method));
+		return getMetadata(type, method).mapping;
 	}
 
 	/*
@@ -92,7 +87,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	 */
 	@Override
 	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
-		return METHODS.computeIfAbsent(key(type, method), __ -> delegate.getRequestMethod(type, method));
+		return getMetadata(type, method).requestMethods;
 	}
 
 	/*
@@ -101,7 +96,7 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	 */
 	@Override
 	public List<MediaType> getConsumes(Method method) {
-		return CONSUMES.computeIfAbsent(key(method), __ -> delegate.getConsumes(method));
+		return getMetadata(method.getDeclaringClass(), method).consumes;
 	}
 
 	/*
@@ -110,24 +105,99 @@ public class CachingMappingDiscoverer implements MappingDiscoverer {
 	 */
 	@Override
 	public String[] getParams(Method method) {
-		return PARAMS.computeIfAbsent(key(method), __ -> delegate.getParams(method));
+		return getMetadata(method.getDeclaringClass(), method).params;
 	}
 
-	private static String key(Method method) {
-		return key(method.getDeclaringClass(), method);
+	private MappingMetadata getMetadata(Class<?> type, @Nullable Method method) {
+		return Objects.requireNonNull(MAPPINGS.get(new MethodKey(delegate, type, method)));
 	}
 
-	private static String key(Class<?> type, @Nullable Method method) {
+	/**
+	 * All mapping information discovered for a {@link Method} invoked on a particular type, or the type itself. Looked up
+	 * in one go so that a single cache entry serves all lookups for a handler method.
+	 *
+	 * @author agent
+	 */
+	private static final class MappingMetadata {
+
+		private final @Nullable UriMapping mapping;
+		private final Collection<HttpMethod> requestMethods;
+		private final String[] params;
+		private final List<MediaType> consumes;
 
-		StringBuilder builder = new StringBuilder(type.getName());
+		private MappingMetadata(@Nullable UriMapping mapping, Collection<HttpMethod> requestMethods, String[] params,
+				List<MediaType> consumes) {
 
-		if (method == null) {
-			return builder.toString();
+			this.mapping = mapping;
+			this.requestMethods = requestMethods;
+			this.params = params;
+			this.consumes = consumes;
 		}
 
-		builder.append(method.getName());
-		builder.append(StringUtils.arrayToCommaDelimitedString(method.getParameterTypes()));
+		static MappingMetadata of(MethodKey key) {
 
-		return builder.toString();
+			MappingDiscoverer delegate = key.delegate;
+			Method method = key.method;
+
+			if (method == null) {
+				return new MappingMetadata(delegate.getUriMapping(key.type), Collections.emptyList(), new String[0],
+						Collections.emptyList());
+			}
+
+			return new MappingMetadata(delegate.getUriMapping(key.type, method), //
+					delegate.getRequestMethod(key.type, method), //
+					delegate.getParams(method), //
+					delegate.getConsumes(method));
+		}
+	}
+
+	/**
+	 * Identity based cache key for a {@link Method} invoked on a particular type, or the type itself, as seen by a
+	 * particular {@link MappingDiscoverer}.
+	 *
+	 * @author agent
+	 */
+	private static final class MethodKey {
+
+		private final MappingDiscoverer delegate;
+		private final Class<?> type;
+		private final @Nullable Method method;
+		private final int hashCode;
+
+		MethodKey(MappingDiscoverer delegate, Class<?> type, @Nullable Method method) {
+
+			this.delegate = delegate;
+			this.type = type;
+			this.method = method;
+			this.hashCode = 31 * (31 * System.identityHashCode(delegate) + type.hashCode())
+					+ (method == null ? 0 : method.hashCode());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof MethodKey that)) {
+				return false;
+			}
+
+			return delegate == that.delegate && type == that.type && Objects.equals(method, that.method);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
 	}
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.mediatype.PropertyUtils;
+import org.springframework.hateoas.support.HateoasCache;
+import org.springframework.hateoas.support.HateoasCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils.MethodFilter;
+import org.springframework.util.StopWatch;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Eagerly populates the caches used to build links and affordances pointing to controller methods once the
+ * {@link ApplicationContext} has been refreshed, so that the first requests after startup don't have to pay for the
+ * reflective inspection of the controllers. That includes the {@link UriMapping}s, request methods and consumable
+ * media types of all handler methods of {@link Controller} beans, their affordances, the metadata about their
+ * {@link org.springframework.web.bind.annotation.PathVariable} and
+ * {@link org.springframework.web.bind.annotation.RequestParam} parameters and the payload metadata of their
+ * {@link RequestBody} parameters. The handler methods are inspected in parallel. Register an instance as Spring bean
+ * to opt into the warm-up.
+ * <p>
+ * Mappings containing property placeholders are skipped, as they can only be resolved reliably once the web
+ * application context has been fully initialized. Affordances are only warmed up if they are demanded for the media
+ * types the application renders (see {@link AffordanceDemand}). Caches bounded to fewer entries than there are handler
+ * methods are not warmed up at all, as that would only evict entries added before. A warning is logged in that case.
+ *
+ * @author agent
+ * @since 3.2
+ */
+public class HandlerMethodCacheWarmer implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(HandlerMethodCacheWarmer.class);
+	private static final AnnotationMappingDiscoverer RAW_DISCOVERER = new AnnotationMappingDiscoverer(
+			RequestMapping.class);
+	private static final MethodFilter HANDLER_METHODS = it -> AnnotatedElementUtils.hasAnnotation(it,
+			RequestMapping.class);
+
+	// Referenced to have the link building caches registered before their statistics are inspected
+	private static final MappingDiscoverer DISCOVERER = SpringAffordanceBuilder.DISCOVERER;
+
+	private final HateoasCacheManager cacheManager;
+	private final boolean affordancesDemanded;
+
+	/**
+	 * Creates a new {@link HandlerMethodCacheWarmer} warming up the caches for affordances as well.
+	 */
+	public HandlerMethodCacheWarmer() {
+		this(List.of());
+	}
+
+	/**
+	 * Creates a new {@link HandlerMethodCacheWarmer} for an application rendering the given {@link MediaType}s, which
+	 * will only warm up the caches for affordances if any of them can express affordances.
+	 *
+	 * @param mediaTypes must not be {@literal null}.
+	 */
+	public HandlerMethodCacheWarmer(Collection<MediaType> mediaTypes) {
+		this(HateoasCacheManager.getInstance(), mediaTypes);
+	}
+
+	HandlerMethodCacheWarmer(HateoasCacheManager cacheManager, Collection<MediaType> mediaTypes) {
+
+		Assert.notNull(cacheManager, "HateoasCacheManager must not be null!");
+		Assert.notNull(mediaTypes, "Media types must not be null!");
+
+		this.cacheManager = cacheManager;
+		this.affordancesDemanded = AffordanceDemand.isDemandedFor(mediaTypes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		warmUp(event.getApplicationContext());
+	}
+
+	/**
+	 * Warms up the caches for all handler methods of the {@link Controller} beans in the given
+	 * {@link ApplicationContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return the number of handler methods the caches were populated for.
+	 */
+	int warmUp(ApplicationContext context) {
+
+		Assert.notNull(context, "ApplicationContext must not be null!");
+
+		List<ControllerMethod> methods = new ArrayList<>();
+
+		for (String name : context.getBeanNamesForAnnotation(Controller.class)) {
+
+			Class<?> type = context.getType(name, false);
+
+			if (type == null) {
+				continue;
+			}
+
+			Class<?> userType = ClassUtils.getUserClass(type);
+
+			MethodIntrospector.selectMethods(userType, HANDLER_METHODS) //
+					.forEach(it -> methods.add(new ControllerMethod(userType, it)));
+		}
+
+		Map<String, HateoasCache.Statistics> statistics = cacheManager.getStatistics();
+
+		if (!fits(statistics, "mappings", methods.size())) {
+			return 0;
+		}
+
+		// Evaluated on the calling thread as the demand is thread-scoped
+		boolean affordances = affordancesDemanded && AffordanceDemand.isDemanded()
+				&& fits(statistics, "affordances", methods.size());
+		boolean payloads = fits(statistics, "input-payload-metadata", methods.size());
+
+		StopWatch watch = new StopWatch();
+		watch.start();
+
+		AtomicInteger warmedUp = new AtomicInteger();
+
+		methods.parallelStream() //
+				.filter(it -> it.warmUp(affordances, payloads)) //
+				.forEach(__ -> warmedUp.incrementAndGet());
+
+		watch.stop();
+
+		LOGGER.info("Warmed up link building caches for {} of {} handler methods in {} ms.", warmedUp.get(),
+				methods.size(), watch.getTotalTimeMillis());
+
+		return warmedUp.get();
+	}
+
+	/**
+	 * Returns whether the cache with the given name can hold entries for the given number of handler methods without
+	 * evicting any.
+	 *
+	 * @param statistics must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param handlerMethods the number of handler methods to warm up the cache for.
+	 * @return
+	 */
+	private static boolean fits(Map<String, HateoasCache.Statistics> statistics, String name, int handlerMethods) {
+
+		HateoasCache.Statistics cache = statistics.get(name);
+
+		if (cache == null || !cache.isBounded() || cache.getCapacity() >= handlerMethods) {
+			return true;
+		}
+
+		LOGGER.warn("Not warming up cache '{}' as its capacity of {} is smaller than the number of handler methods ({}). "
+				+ "Consider raising it via {}.", name, cache.getCapacity(), handlerMethods,
+				"spring.hateoas.cache." + name + ".capacity");
+
+		return false;
+	}
+
+	/**
+	 * A handler method declared on a controller type.
+	 *
+	 * @author agent
+	 */
+	private static final class ControllerMethod {
+
+		private final Class<?> type;
+		private final Method method;
+
+		ControllerMethod(Class<?> type, Method method) {
+
+			this.type = type;
+			this.method = method;
+		}
+
+		/**
+		 * Populates the caches for the handler method.
+		 *
+		 * @param affordances whether to populate the cache for affordances.
+		 * @param payloads whether to populate the caches for the payload metadata of {@link RequestBody} parameters.
+		 * @return whether the caches were populated.
+		 */
+		boolean warmUp(boolean affordances, boolean payloads) {
+
+			String mapping = RAW_DISCOVERER.getMapping(type, method);
+
+			if (mapping == null || mapping.contains("${")) {
+				return false;
+			}
+
+			try {
+
+				UriMapping uriMapping = SpringAffordanceBuilder.getUriMapping(type, method);
+
+				if (affordances) {
+
+					String href = uriMapping.getMapping();
+
+					SpringAffordanceBuilder.getAffordances(type, method, href.isEmpty() ? "/" : href);
+				}
+
+				WebHandler.prepare(method);
+
+				if (payloads) {
+					MethodParameters.of(method).getParametersWith(RequestBody.class).stream() //
+							.map(ResolvableType::forMethodParameter) //
+							.forEach(PropertyUtils::getExposedProperties);
+				}
+
+				return true;
+
+			} catch (RuntimeException o_O) {
+
+				// Leave it to the actual link creation to report the problem
+				LOGGER.debug("Could not warm up caches for {}.", method, o_O);
+
+				return false;
+			}
+		}
+	}
+}
@@ -47,8 +47,11 @@ import org.springframework.web.util.UriComponentsBuilder;
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
 	private final List<Affordance> affordances;
+	private final UriComponents components;
 
-	private UriComponents components;
+	// Encoded path segments appended via slash(…) but not yet applied to the components
+	private final List<String> segments;
+	private volatile @Nullable UriComponents materialized;
 
 	/**
 	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponents}.
@@ -60,14 +63,30 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	}
 
 	protected LinkBuilderSupport(UriComponents components, List<Affordance> affordances) {
+		this(components, affordances, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponents}, {@link Affordance}s and encoded
+	 * path segments still to be appended to the components.
+	 *
+	 * @param components must not be {@literal null}.
+	 * @param affordances must not be {@literal null}.
+	 * @param segments must not be {@literal null}.
+	 * @since 3.2
+	 * @see #createNewInstance(UriComponents, List, List)
+	 */
+	protected LinkBuilderSupport(UriComponents components, List<Affordance> affordances, List<String> segments) {
 
 		Assert.notNull(components, "UriComponents must not be null!");
 		Assert.notNull(affordances, "Affordances must not be null!");
+		Assert.notNull(segments, "Segments must not be null!");
 
 		// this.builder = UriComponentsBuilder.newInstance().uriComponents(components);
 		this.affordances = affordances;
 
 		this.components = components;
+		this.segments = List.copyOf(segments);
 	}
 
 	/*
@@ -94,12 +113,26 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 
 		path = path.startsWith("/") ? path : "/".concat(path);
 
+		// Plain paths are only collected as segments to avoid parsing and rebuilding the components for each call
+		if (path.indexOf('?') == -1 && path.indexOf('#') == -1 && !path.startsWith("//")) {
+
+			List<String> segments = new ArrayList<>(this.segments);
+
+			for (String segment : StringUtils.delimitedListToStringArray(path, "/")) {
+				if (!segment.isEmpty()) {
+					segments.add(encodePath(segment));
+				}
+			}
+
+			return createNewInstance(components, affordances, segments);
+		}
+
 		return slash(UriComponentsBuilder.fromUriString(path).build(), false);
 	}
 
 	protected T slash(UriComponents components, boolean encoded) {
 
-		UriComponentsBuilder builder = UriComponentsBuilder.newInstance().uriComponents(this.components);
+		UriComponentsBuilder builder = UriComponentsBuilder.newInstance().uriComponents(getComponents());
 
 		for (String pathSegment : components.getPathSegments()) {
 			builder.pathSegment(encoded ? pathSegment : encodePath(pathSegment));
@@ -119,7 +152,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return URI.create(components.toUriString());
+		return URI.create(toUriString());
 	}
 
 	public T addAffordances(Collection<Affordance> affordances) {
@@ -128,7 +161,11 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 		newAffordances.addAll(this.affordances);
 		newAffordances.addAll(affordances);
 
-		return createNewInstance(components, newAffordances);
+		UriComponents materialized = this.materialized;
+
+		return materialized == null //
+				? createNewInstance(components, newAffordances, segments) //
+				: createNewInstance(materialized, newAffordances, Collections.emptyList());
 	}
 
 	/*
@@ -155,7 +192,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return components.toUriString();
+		return toUriString();
 	}
 
 	/**
@@ -170,7 +207,87 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	protected abstract T createNewInstance(UriComponents components, List<Affordance> affordances);
 
+	/**
+	 * Creates a new instance of the sub-class with the given encoded path segments still to be appended to the given
+	 * {@link UriComponents}. Sub-classes should override this method and hand the segments to
+	 * {@link #LinkBuilderSupport(UriComponents, List, List)} to defer appending them until the components are needed.
+	 * The default implementation appends them right away.
+	 *
+	 * @param components will never be {@literal null}.
+	 * @param affordances will never be {@literal null}.
+	 * @param segments will never be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	protected T createNewInstance(UriComponents components, List<Affordance> affordances, List<String> segments) {
+		return createNewInstance(appendSegments(components, segments), affordances);
+	}
+
 	public List<Affordance> getAffordances() {
 		return this.affordances;
 	}
+
+	/**
+	 * Returns the {@link UriComponents} with all path segments appended via {@link #slash(Object)} applied.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private UriComponents getComponents() {
+
+		if (segments.isEmpty()) {
+			return components;
+		}
+
+		UriComponents result = materialized;
+
+		if (result == null) {
+
+			result = appendSegments(components, segments);
+			materialized = result;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Appends the given encoded path segments to the given {@link UriComponents}.
+	 *
+	 * @param components must not be {@literal null}.
+	 * @param segments must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static UriComponents appendSegments(UriComponents components, List<String> segments) {
+
+		if (segments.isEmpty()) {
+			return components;
+		}
+
+		UriComponentsBuilder builder = UriComponentsBuilder.newInstance().uriComponents(components);
+
+		for (String segment : segments) {
+			builder.pathSegment(segment);
+		}
+
+		return builder.build();
+	}
+
+	private String toUriString() {
+
+		if (segments.isEmpty()) {
+			return components.toUriString();
+		}
+
+		if (components.getQuery() != null || components.getFragment() != null) {
+			return getComponents().toUriString();
+		}
+
+		String base = components.toUriString();
+		StringBuilder builder = new StringBuilder(base.endsWith("/") ? base.substring(0, base.length() - 1) : base);
+
+		for (String segment : segments) {
+			builder.append('/').append(segment);
+		}
+
+		return builder.toString();
+	}
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.server.core.PrecomputedMappings.Mapping;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RawMappingDiscoverer} that looks up mapping metadata registered in {@link PrecomputedMappings} and falls back
+ * to the given delegate for the methods no metadata was registered for.
+ *
+ * @author agent
+ * @since 3.2
+ */
+class PrecomputedMappingDiscoverer implements RawMappingDiscoverer {
+
+	private final RawMappingDiscoverer delegate;
+
+	/**
+	 * Creates a new {@link PrecomputedMappingDiscoverer} for the given delegate {@link RawMappingDiscoverer}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	PrecomputedMappingDiscoverer(RawMappingDiscoverer delegate) {
+
+		Assert.notNull(delegate, "Delegate MappingDiscoverer must not be null!");
+
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.RawMappingDiscoverer#getMapping(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public @Nullable String getMapping(@Nullable Class<?> type, @Nullable Method method) {
+
+		Mapping mapping = type == null ? null : PrecomputedMappings.get(type, method);
+
+		return mapping == null ? delegate.getMapping(type, method) : mapping.getMapping();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.MappingDiscoverer#getUriMapping(java.lang.Class)
+	 */
+	@Override
+	public @Nullable UriMapping getUriMapping(Class<?> type) {
+
+		Mapping mapping = PrecomputedMappings.get(type, null);
+
+		return mapping == null ? delegate.getUriMapping(type) : UriMapping.of(mapping.getMapping());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.MappingDiscoverer#getUriMapping(java.lang.reflect.Method)
+	 */
+	@Override
+	public @Nullable UriMapping getUriMapping(Method method) {
+		return getUriMapping(method.getDeclaringClass(), method);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.MappingDiscoverer#getUriMapping(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public @Nullable UriMapping getUriMapping(Class<?> type, Method method) {
+
+		Mapping mapping = PrecomputedMappings.get(type, method);
+
+		return mapping == null ? delegate.getUriMapping(type, method) : UriMapping.of(mapping.getMapping());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.MappingDiscoverer#getRequestMethod(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
+
+		Mapping mapping = PrecomputedMappings.get(type, method);
+
+		return mapping == null ? delegate.getRequestMethod(type, method) : mapping.getRequestMethods();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.MappingDiscoverer#getConsumes(java.lang.reflect.Method)
+	 */
+	@Override
+	public List<MediaType> getConsumes(Method method) {
+
+		Mapping mapping = PrecomputedMappings.get(method.getDeclaringClass(), method);
+
+		return mapping == null ? delegate.getConsumes(method) : mapping.getConsumes();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.MappingDiscoverer#getParams(java.lang.reflect.Method)
+	 */
+	@Override
+	public String[] getParams(Method method) {
+
+		Mapping mapping = PrecomputedMappings.get(method.getDeclaringClass(), method);
+
+		return mapping == null ? delegate.getParams(method) : mapping.getParams();
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Registry of request mapping metadata of controller methods computed ahead of time. Code generated during AOT
+ * processing registers the mappings, request methods, consumable media types and parameter constraints of all handler
+ * methods of a controller once it's instantiated, so that building links to them doesn't require inspecting the
+ * mapping annotations at runtime. Registrations are keyed by the identity of the types and methods. They're held via
+ * soft references, so that they don't keep class loaders alive. Methods not registered, or whose registration has been
+ * reclaimed, are still inspected reflectively.
+ *
+ * @author agent
+ * @since 3.2
+ * @see org.springframework.hateoas.aot.ControllerMethodReturnTypeAotProcessor
+ */
+public final class PrecomputedMappings {
+
+	private static final Map<Key, Mapping> MAPPINGS = new ConcurrentReferenceHashMap<>();
+	private static final String[] NONE = new String[0];
+
+	private PrecomputedMappings() {}
+
+	/**
+	 * Returns the method with the given name and parameter types declared by or inherited by the given type. Used by
+	 * the generated code to refer to handler methods without having to reference their parameter types, which might not
+	 * be accessible from the generated class.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param name must not be {@literal null} or empty.
+	 * @param parameterTypes the fully qualified names of the parameter types as returned by {@link Class#getName()},
+	 *          must not be {@literal null}.
+	 * @return the most specific method matching, {@literal null} if none found.
+	 */
+	public static @Nullable Method findMethod(Class<?> type, String name, String... parameterTypes) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.hasText(name, "Method name must not be null or empty!");
+		Assert.notNull(parameterTypes, "Parameter types must not be null!");
+
+		for (Method candidate : ReflectionUtils.getAllDeclaredMethods(type)) {
+
+			if (!candidate.isBridge() && candidate.getName().equals(name)
+					&& Arrays.equals(getParameterTypeNames(candidate), parameterTypes)) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Registers the given type-level mapping for the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param mapping the raw type-level mapping, can be {@literal null}.
+	 */
+	public static void register(Class<?> type, @Nullable String mapping) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		MAPPINGS.put(new Key(type, null), new Mapping(mapping, List.of(), List.of(), NONE));
+	}
+
+	/**
+	 * Registers the given mapping metadata for the given method of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method the handler method, can be {@literal null} in case it couldn't be resolved, in which case nothing is
+	 *          registered.
+	 * @param mapping the raw, cleaned up mapping, can be {@literal null}.
+	 * @param requestMethods must not be {@literal null}.
+	 * @param consumes must not be {@literal null}.
+	 * @param params must not be {@literal null}.
+	 * @see #findMethod(Class, String, String...)
+	 */
+	public static void register(Class<?> type, @Nullable Method method, @Nullable String mapping,
+			String[] requestMethods, String[] consumes, String[] params) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(requestMethods, "Request methods must not be null!");
+		Assert.notNull(consumes, "Consumable media types must not be null!");
+		Assert.notNull(params, "Params must not be null!");
+
+		if (method == null) {
+			return;
+		}
+
+		MAPPINGS.put(new Key(type, method), new Mapping(mapping, //
+				Arrays.stream(requestMethods).map(HttpMethod::valueOf).collect(Collectors.toList()), //
+				Arrays.stream(consumes).map(MediaType::parseMediaType).collect(Collectors.toList()), //
+				params));
+	}
+
+	/**
+	 * Registers the given mapping metadata for the given method and the class declaring it, which might not be
+	 * accessible from the generated code.
+	 *
+	 * @param method the handler method, can be {@literal null} in case it couldn't be resolved, in which case nothing is
+	 *          registered.
+	 * @param mapping the raw, cleaned up mapping, can be {@literal null}.
+	 * @param requestMethods must not be {@literal null}.
+	 * @param consumes must not be {@literal null}.
+	 * @param params must not be {@literal null}.
+	 * @see #register(Class, Method, String, String[], String[], String[])
+	 */
+	public static void registerForDeclaringClass(@Nullable Method method, @Nullable String mapping,
+			String[] requestMethods, String[] consumes, String[] params) {
+
+		if (method != null) {
+			register(method.getDeclaringClass(), method, mapping, requestMethods, consumes, params);
+		}
+	}
+
+	/**
+	 * Returns the {@link Mapping} registered for the given method of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method can be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	static Mapping get(Class<?> type, @Nullable Method method) {
+		return MAPPINGS.isEmpty() ? null : MAPPINGS.get(new Key(type, method));
+	}
+
+	/**
+	 * Returns the names of the parameter types of the given {@link Method} as expected by
+	 * {@link #findMethod(Class, String, String...)}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static String[] getParameterTypeNames(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return Arrays.stream(method.getParameterTypes()).map(Class::getName).toArray(String[]::new);
+	}
+
+	/**
+	 * Removes all registered mappings.
+	 */
+	static void clear() {
+		MAPPINGS.clear();
+	}
+
+	/**
+	 * Key of a registration using the identity of the type and method, so that types of the same name loaded by
+	 * different class loaders don't collide.
+	 *
+	 * @author agent
+	 */
+	private static final class Key {
+
+		private final Class<?> type;
+		private final @Nullable Method method;
+
+		Key(Class<?> type, @Nullable Method method) {
+
+			this.type = type;
+			this.method = method;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key that)) {
+				return false;
+			}
+
+			return type == that.type && Objects.equals(method, that.method);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, method);
+		}
+	}
+
+	/**
+	 * The mapping metadata of a controller method.
+	 *
+	 * @author agent
+	 */
+	static final class Mapping {
+
+		private final @Nullable String mapping;
+		private final Collection<HttpMethod> requestMethods;
+		private final List<MediaType> consumes;
+		private final String[] params;
+
+		Mapping(@Nullable String mapping, Collection<HttpMethod> requestMethods, List<MediaType> consumes,
+				String[] params) {
+
+			this.mapping = mapping;
+			this.requestMethods = requestMethods;
+			this.consumes = consumes;
+			this.params = params;
+		}
+
+		@Nullable
+		String getMapping() {
+			return mapping;
+		}
+
+		Collection<HttpMethod> getRequestMethods() {
+			return requestMethods;
+		}
+
+		List<MediaType> getConsumes() {
+			return consumes;
+		}
+
+		String[] getParams() {
+			return params;
+		}
+	}
+}
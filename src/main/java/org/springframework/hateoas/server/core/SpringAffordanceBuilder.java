@@ -30,10 +30,11 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.QueryParameter;
 import org.springframework.hateoas.mediatype.Affordances;
+import org.springframework.hateoas.support.HateoasCache;
+import org.springframework.hateoas.support.HateoasCacheManager;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentLruCache;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -47,10 +48,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class SpringAffordanceBuilder {
 
 	public static final MappingDiscoverer DISCOVERER = CachingMappingDiscoverer
-			.of(new PropertyResolvingMappingDiscoverer(new AnnotationMappingDiscoverer(RequestMapping.class)));
+			.of(new PropertyResolvingMappingDiscoverer(
+					new PrecomputedMappingDiscoverer(new AnnotationMappingDiscoverer(RequestMapping.class))));
 
-	private static final ConcurrentLruCache<AffordanceKey, Function<Affordances, List<Affordance>>> AFFORDANCES_CACHE = new ConcurrentLruCache<>(
-			256, key -> SpringAffordanceBuilder.create(key.type, key.method));
+	private static final HateoasCache<AffordanceKey, Function<Affordances, List<Affordance>>> AFFORDANCES_CACHE = HateoasCacheManager
+			.getInstance() //
+			.getBoundedCache("affordances", 256, key -> SpringAffordanceBuilder.create(key.type, key.method));
 
 	/**
 	 * Returns all {@link Affordance}s for the given type's method and base URI.
@@ -65,8 +68,7 @@ public class SpringAffordanceBuilder {
 		String methodName = method.getName();
 		Link affordanceLink = Link.of(href, LinkRelation.of(methodName));
 
-		return AFFORDANCES_CACHE
-				.get(new AffordanceKey(type, method))
+		return Objects.requireNonNull(AFFORDANCES_CACHE.get(new AffordanceKey(type, method))) //
 				.apply(Affordances.of(affordanceLink));
 	}
 
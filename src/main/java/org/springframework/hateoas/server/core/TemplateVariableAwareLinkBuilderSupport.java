@@ -15,6 +15,7 @@
  */
 package org.springframework.hateoas.server.core;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.hateoas.Affordance;
@@ -34,7 +35,24 @@ public abstract class TemplateVariableAwareLinkBuilderSupport<T extends Template
 	protected TemplateVariableAwareLinkBuilderSupport(UriComponents components, TemplateVariables variables,
 			List<Affordance> affordances) {
 
-		super(components, affordances);
+		this(components, variables, affordances, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link TemplateVariableAwareLinkBuilderSupport} with the given encoded path segments still to be
+	 * appended to the given {@link UriComponents}.
+	 *
+	 * @param components must not be {@literal null}.
+	 * @param variables must not be {@literal null}.
+	 * @param affordances must not be {@literal null}.
+	 * @param segments must not be {@literal null}.
+	 * @since 3.2
+	 * @see #createNewInstance(UriComponents, List, TemplateVariables, List)
+	 */
+	protected TemplateVariableAwareLinkBuilderSupport(UriComponents components, TemplateVariables variables,
+			List<Affordance> affordances, List<String> segments) {
+
+		super(components, affordances, segments);
 
 		this.variables = variables;
 	}
@@ -48,9 +66,36 @@ public abstract class TemplateVariableAwareLinkBuilderSupport<T extends Template
 		return createNewInstance(components, affordances, variables);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List, java.util.List)
+	 */
+	@Override
+	protected final T createNewInstance(UriComponents components, List<Affordance> affordances, List<String> segments) {
+		return createNewInstance(components, affordances, variables, segments);
+	}
+
 	protected abstract T createNewInstance(UriComponents components, List<Affordance> affordances,
 			TemplateVariables variables);
 
+	/**
+	 * Creates a new instance of the sub-class with the given encoded path segments still to be appended to the given
+	 * {@link UriComponents}. Sub-classes should override this method and hand the segments to
+	 * {@link #TemplateVariableAwareLinkBuilderSupport(UriComponents, TemplateVariables, List, List)}. The default
+	 * implementation appends them right away.
+	 *
+	 * @param components will never be {@literal null}.
+	 * @param affordances will never be {@literal null}.
+	 * @param variables will never be {@literal null}.
+	 * @param segments will never be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	protected T createNewInstance(UriComponents components, List<Affordance> affordances, TemplateVariables variables,
+			List<String> segments) {
+		return createNewInstance(appendSegments(components, segments), affordances, variables);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.LinkBuilderSupport#toString()
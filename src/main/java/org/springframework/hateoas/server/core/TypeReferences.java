@@ -62,6 +62,15 @@ public class TypeReferences {
 	public static class PagedModelType<T>
 			extends SyntheticParameterizedTypeReference<org.springframework.hateoas.PagedModel<T>> {}
 
+	/**
+	 * A {@link ParameterizedTypeReference} to return a {@link org.springframework.hateoas.CursorModel} of some type.
+	 *
+	 * @author agent
+	 * @since 3.2
+	 */
+	public static class CursorModelType<T>
+			extends SyntheticParameterizedTypeReference<org.springframework.hateoas.CursorModel<T>> {}
+
 	public static class $$<T> extends SyntheticParameterizedTypeReference<T> {}
 
 	/**
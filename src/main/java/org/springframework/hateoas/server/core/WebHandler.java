@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -188,13 +188,28 @@ public class WebHandler {
 				variables = variables.concat(variable);
 			}
 
-			List<Affordance> affordances = SpringAffordanceBuilder.getAffordances(invocation.getTargetType(), method,
-					components.toUriString());
+			List<Affordance> affordances = AffordanceDemand.isDemanded() //
+					? SpringAffordanceBuilder.getAffordances(invocation.getTargetType(), method, components.toUriString()) //
+					: Collections.emptyList();
 
 			return creator.createBuilder(components, variables, affordances);
 		};
 	}
 
+	/**
+	 * Eagerly resolves and caches the metadata about the {@link PathVariable} and {@link RequestParam} parameters of the
+	 * given handler method, that's otherwise inspected on the first link built pointing to it.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @since 3.2
+	 */
+	static void prepare(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		HandlerMethodParameters.of(method);
+	}
+
 	/**
 	 * Populates the given {@link UriComponentsBuilder} with request parameters found in the given
 	 * {@link AnnotatedParametersParameterAccessor.BoundMethodParameter}.
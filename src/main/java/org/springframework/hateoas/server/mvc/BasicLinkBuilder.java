@@ -19,7 +19,6 @@ import java.util.List;
 
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.server.core.LinkBuilderSupport;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 
 /**
@@ -42,13 +41,17 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		super(components, affordances);
 	}
 
+	private BasicLinkBuilder(UriComponents components, List<Affordance> affordances, List<String> segments) {
+		super(components, affordances, segments);
+	}
+
 	/**
 	 * Creates a new {@link BasicLinkBuilder} to link to the current servlet mapping.
 	 *
 	 * @return
 	 */
 	public static BasicLinkBuilder linkToCurrentMapping() {
-		return new BasicLinkBuilder(ServletUriComponentsBuilder.fromCurrentServletMapping().build());
+		return new BasicLinkBuilder(UriComponentsBuilderFactory.getBaseUri());
 	}
 
 	/*
@@ -60,6 +63,16 @@ public class BasicLinkBuilder extends LinkBuilderSupport<BasicLinkBuilder> {
 		return new BasicLinkBuilder(components, affordances);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List, java.util.List)
+	 */
+	@Override
+	protected BasicLinkBuilder createNewInstance(UriComponents components, List<Affordance> affordances,
+			List<String> segments) {
+		return new BasicLinkBuilder(components, affordances, segments);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.mvc.LinkBuilderSupport#getThis()
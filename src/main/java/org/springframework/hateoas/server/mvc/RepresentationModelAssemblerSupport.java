@@ -17,10 +17,14 @@ package org.springframework.hateoas.server.mvc;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanInstantiationException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -40,6 +44,8 @@ public abstract class RepresentationModelAssemblerSupport<T, D extends Represent
 	private final Class<?> controllerClass;
 	private final Class<D> resourceType;
 
+	private @Nullable Constructor<D> constructor;
+
 	/**
 	 * Creates a new {@link RepresentationModelAssemblerSupport} using the given controller class and resource type.
 	 *
@@ -99,6 +105,42 @@ public abstract class RepresentationModelAssemblerSupport<T, D extends Represent
 		return instance;
 	}
 
+	/**
+	 * Creates new resources for all given entities with a self link to the id obtained by the given extractor. In
+	 * contrast to calling {@link #createModelWithId(Object, Object, Object...)} for each entity, the base link to the
+	 * controller is only resolved once.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param idExtractor must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	protected List<D> createModelsWithIds(Iterable<? extends T> entities, Function<? super T, Object> idExtractor,
+			Object... parameters) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+		Assert.notNull(idExtractor, "Id extractor must not be null!");
+
+		WebMvcLinkBuilder base = linkTo(this.controllerClass, parameters);
+		List<D> result = new ArrayList<>();
+
+		for (T entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null!");
+
+			Object id = idExtractor.apply(entity);
+
+			Assert.notNull(id, "Id must not be null!");
+
+			D instance = instantiateModel(entity);
+			instance.add(base.slash(id).withSelfRel());
+			result.add(instance);
+		}
+
+		return result;
+	}
+
 	protected Class<?> getControllerClass() {
 		return this.controllerClass;
 	}
@@ -108,15 +150,40 @@ public abstract class RepresentationModelAssemblerSupport<T, D extends Represent
 	}
 
 	/**
-	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
-	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
-	 * issue).
+	 * Instantiates the resource object. Default implementation will assume a no-arg constructor (or a Kotlin primary
+	 * constructor with default values for all parameters) and use reflection (the constructor being looked up only once)
+	 * but can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes
+	 * an issue).
 	 *
 	 * @param entity
 	 * @return
 	 */
 	protected D instantiateModel(T entity) {
-		return BeanUtils.instantiateClass(this.resourceType);
+
+		Constructor<D> constructor = this.constructor;
+
+		if (constructor == null) {
+
+			if (resourceType.isInterface()) {
+				throw new BeanInstantiationException(resourceType, "Specified class is an interface");
+			}
+
+			try {
+				constructor = resourceType.getDeclaredConstructor();
+			} catch (NoSuchMethodException o_O) {
+
+				// Kotlin primary constructor with default values for all parameters
+				constructor = BeanUtils.findPrimaryConstructor(resourceType);
+
+				if (constructor == null) {
+					throw new BeanInstantiationException(resourceType, "No default constructor found", o_O);
+				}
+			}
+
+			this.constructor = constructor;
+		}
+
+		return BeanUtils.instantiateClass(constructor);
 	}
 
 	/**
@@ -140,18 +207,12 @@ public abstract class RepresentationModelAssemblerSupport<T, D extends Represent
 		/**
 		 * Transform a list of {@code T}s into a list of {@link RepresentationModel}s.
 		 *
+		 * @see RepresentationModelAssembler#toModels(Iterable)
 		 * @see #toListOfResources() if you need this transformed list rendered as hypermedia
 		 * @return
 		 */
 		public List<D> toListOfResources() {
-
-			List<D> result = new ArrayList<>();
-
-			for (T entity : this.entities) {
-				result.add(this.resourceAssembler.toModel(entity));
-			}
-
-			return result;
+			return this.resourceAssembler.toModels(this.entities);
 		}
 
 		/**
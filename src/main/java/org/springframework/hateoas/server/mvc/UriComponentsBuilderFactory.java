@@ -15,17 +15,19 @@
  */
 package org.springframework.hateoas.server.mvc;
 
-import java.net.URI;
+import jakarta.servlet.http.HttpServletRequest;
 
-import org.jspecify.annotations.Nullable;
+import org.springframework.hateoas.server.core.BaseUriCache;
 import org.springframework.hateoas.server.core.UriMapping;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UrlPathHelper;
 
 /**
  * Factory class for {@link UriComponentsBuilder} instances caching the lookups to avoid unnecessary subsequent lookups.
@@ -51,11 +53,29 @@ class UriComponentsBuilderFactory {
 			return UriComponentsBuilder.fromPath("/");
 		}
 
-		URI baseUri = getCachedBaseUri();
+		return UriComponentsBuilder.newInstance().uriComponents(getBaseUri());
+	}
+
+	/**
+	 * Returns the {@link UriComponents} of the current servlet mapping. The lookup is cached for the current request
+	 * and shared with other requests to the same scheme, host, port and mapping via the {@link BaseUriCache}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @throws IllegalStateException in case no current request can be found.
+	 */
+	public static UriComponents getBaseUri() {
+
+		RequestAttributes attributes = getRequestAttributes();
+
+		if (attributes.getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST) instanceof UriComponents components) {
+			return components;
+		}
 
-		return baseUri != null //
-				? UriComponentsBuilder.fromUri(baseUri) //
-				: cacheBaseUri(ServletUriComponentsBuilder.fromCurrentServletMapping());
+		UriComponents components = lookupBaseUri(((ServletRequestAttributes) attributes).getRequest());
+
+		attributes.setAttribute(CACHE_KEY, components, RequestAttributes.SCOPE_REQUEST);
+
+		return components;
 	}
 
 	public static UriComponentsBuilder forMapping(UriMapping mapping) {
@@ -80,17 +100,24 @@ class UriComponentsBuilderFactory {
 		return requestAttributes;
 	}
 
-	private static UriComponentsBuilder cacheBaseUri(UriComponentsBuilder builder) {
-
-		URI uri = builder.build().toUri();
+	/**
+	 * Looks up the base {@link UriComponents} for the given request, equivalent to
+	 * {@link ServletUriComponentsBuilder#fromServletMapping(HttpServletRequest)}.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static UriComponents lookupBaseUri(HttpServletRequest request) {
 
-		getRequestAttributes().setAttribute(CACHE_KEY, uri, RequestAttributes.SCOPE_REQUEST);
+		String scheme = request.getScheme();
+		int port = request.getServerPort();
+		boolean nonDefaultPort = ("http".equals(scheme) && port != 80) || ("https".equals(scheme) && port != 443);
 
-		return builder;
-	}
+		String servletPath = StringUtils.hasText(UrlPathHelper.defaultInstance.getPathWithinServletMapping(request)) //
+				? request.getServletPath() //
+				: "";
 
-	@Nullable
-	private static URI getCachedBaseUri() {
-		return (URI) getRequestAttributes().getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
+		return BaseUriCache.getBaseUri(scheme, request.getServerName(), nonDefaultPort ? port : -1,
+				request.getContextPath(), servletPath);
 	}
 }
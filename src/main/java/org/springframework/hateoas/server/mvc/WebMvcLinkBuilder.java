@@ -22,6 +22,7 @@ import java.util.Map;
 
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.TemplateVariables;
+import org.springframework.hateoas.server.core.AffordanceDemand;
 import org.springframework.hateoas.server.core.DummyInvocationUtils;
 import org.springframework.hateoas.server.core.SpringAffordanceBuilder;
 import org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport;
@@ -60,6 +61,11 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		super(uriComponents, variables, affordances);
 	}
 
+	private WebMvcLinkBuilder(UriComponents uriComponents, TemplateVariables variables, List<Affordance> affordances,
+			List<String> segments) {
+		super(uriComponents, variables, affordances, segments);
+	}
+
 	/**
 	 * Creates a new {@link WebMvcLinkBuilder} with a base of the mapping annotated to the given controller class.
 	 *
@@ -208,7 +214,7 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 	 */
 	public static Affordance afford(Object invocationValue) {
 
-		WebMvcLinkBuilder linkBuilder = linkTo(invocationValue);
+		WebMvcLinkBuilder linkBuilder = AffordanceDemand.withAffordances(() -> linkTo(invocationValue));
 
 		Assert.isTrue(linkBuilder.getAffordances().size() == 1, "A base can only have one affordance, itself");
 
@@ -246,6 +252,16 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		return new WebMvcLinkBuilder(components, variables, affordances);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List, org.springframework.hateoas.TemplateVariables, java.util.List)
+	 */
+	@Override
+	protected WebMvcLinkBuilder createNewInstance(UriComponents components, List<Affordance> affordances,
+			TemplateVariables variables, List<String> segments) {
+		return new WebMvcLinkBuilder(components, variables, affordances, segments);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 *
@@ -1,5 +1,5 @@
 /*
- * Copyright 2012-2024 the original author or authors.
+ * Copyright 2012-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,22 +19,26 @@ import jakarta.servlet.ServletContext;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.server.MethodLinkBuilderFactory;
+import org.springframework.hateoas.server.core.AffordanceDemand;
 import org.springframework.hateoas.server.core.MethodParameters;
 import org.springframework.hateoas.server.core.SpringAffordanceBuilder;
 import org.springframework.hateoas.server.core.UriMapping;
 import org.springframework.hateoas.server.core.WebHandler;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -61,8 +65,11 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class WebMvcLinkBuilderFactory implements MethodLinkBuilderFactory<WebMvcLinkBuilder> {
 
 	private static ConversionService FALLBACK_CONVERSION_SERVICE = new DefaultFormattingConversionService();
+	private static final String CONVERSION_SERVICE = WebMvcLinkBuilderFactory.class.getName() + "#CONVERSION_SERVICE";
+	private static final String AFFORDANCE_DEMAND = WebMvcLinkBuilderFactory.class.getName() + "#AFFORDANCE_DEMAND";
 
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<>();
+	private final Map<Method, ContributionPlan> plans = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Configures the {@link UriComponentsContributor} to be used when building {@link Link} instances from method
@@ -73,6 +80,7 @@ public class WebMvcLinkBuilderFactory implements MethodLinkBuilderFactory<WebMvc
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.plans.clear();
 	}
 
 	/*
@@ -144,51 +152,57 @@ public class WebMvcLinkBuilderFactory implements MethodLinkBuilderFactory<WebMvc
 	 */
 	@Override
 	public WebMvcLinkBuilder linkTo(Object invocationValue) {
+		return AffordanceDemand.withDefault(isAffordanceDemanded(), () -> doLinkTo(invocationValue));
+	}
+
+	private WebMvcLinkBuilder doLinkTo(Object invocationValue) {
 
 		Function<UriMapping, UriComponentsBuilder> builderFactory = mapping -> UriComponentsBuilderFactory
 				.forMapping(mapping);
 
 		return WebHandler.linkTo(invocationValue, WebMvcLinkBuilder::new, (builder, invocation) -> {
 
-			String[] primaryParams = SpringAffordanceBuilder.DISCOVERER.getParams(invocation.getMethod());
+			ContributionPlan plan = plans.computeIfAbsent(invocation.getMethod(),
+					it -> new ContributionPlan(it, uriComponentsContributors));
 
-			if (primaryParams.length > 0) {
+			return plan.apply(builder, invocation.getArguments());
 
-				ParamsRequestCondition paramsRequestCondition = new ParamsRequestCondition(primaryParams);
-
-				for (NameValueExpression<String> expression : paramsRequestCondition.getExpressions()) {
+		}, builderFactory, getConversionService());
+	}
 
-					if (expression.isNegated()) {
-						continue;
-					}
+	/**
+	 * Returns whether the current request accepts a media type that might render affordances. The result is cached in
+	 * the request.
+	 *
+	 * @return
+	 * @see AffordanceDemand#isDemandedFor(java.util.Collection)
+	 */
+	private static boolean isAffordanceDemanded() {
 
-					String value = expression.getValue();
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
 
-					if (value == null) {
-						continue;
-					}
+		if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+			return true;
+		}
 
-					builder.queryParam(expression.getName(), value);
-				}
-			}
+		if (attributes.getAttribute(AFFORDANCE_DEMAND, RequestAttributes.SCOPE_REQUEST) instanceof Boolean demanded) {
+			return demanded;
+		}
 
-			MethodParameters parameters = MethodParameters.of(invocation.getMethod());
-			Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+		boolean demanded;
 
-			for (MethodParameter parameter : parameters.getParameters()) {
+		try {
 
-				Object parameterValue = parameterValues.next();
+			List<String> accept = Collections.list(servletAttributes.getRequest().getHeaders(HttpHeaders.ACCEPT));
+			demanded = AffordanceDemand.isDemandedFor(MediaType.parseMediaTypes(accept));
 
-				for (UriComponentsContributor contributor : uriComponentsContributors) {
-					if (contributor.supportsParameter(parameter)) {
-						contributor.enhance(builder, parameter, parameterValue);
-					}
-				}
-			}
+		} catch (InvalidMediaTypeException o_O) {
+			demanded = true;
+		}
 
-			return builder;
+		attributes.setAttribute(AFFORDANCE_DEMAND, demanded, RequestAttributes.SCOPE_REQUEST);
 
-		}, builderFactory, getConversionService());
+		return demanded;
 	}
 
 	private static Supplier<ConversionService> getConversionService() {
@@ -204,9 +218,144 @@ public class WebMvcLinkBuilderFactory implements MethodLinkBuilderFactory<WebMvc
 			ServletContext servletContext = ((ServletRequestAttributes) attributes).getRequest().getServletContext();
 			WebApplicationContext context = WebApplicationContextUtils.getWebApplicationContext(servletContext);
 
-			return context == null || !context.containsBean("mvcConversionService")
+			return context == null
 					? FALLBACK_CONVERSION_SERVICE
-					: context.getBean("mvcConversionService", ConversionService.class);
+					: getConversionService(servletContext, context);
 		};
 	}
+
+	/**
+	 * Returns the {@link ConversionService} Spring MVC uses in the given {@link WebApplicationContext}. The result is
+	 * cached in an attribute of the {@link ServletContext}, as the bean factory lookups are too expensive to be done for
+	 * every link built, and that way doesn't outlive the web application.
+	 *
+	 * @param servletContext must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private static ConversionService getConversionService(ServletContext servletContext,
+			WebApplicationContext context) {
+
+		if (servletContext.getAttribute(CONVERSION_SERVICE) instanceof CachedConversionService cached
+				&& cached.context == context) {
+			return cached.conversionService;
+		}
+
+		ConversionService conversionService = !context.containsBean("mvcConversionService")
+				? FALLBACK_CONVERSION_SERVICE
+				: context.getBean("mvcConversionService", ConversionService.class);
+
+		servletContext.setAttribute(CONVERSION_SERVICE, new CachedConversionService(context, conversionService));
+
+		return conversionService;
+	}
+
+	/**
+	 * The {@link ConversionService} looked up from a {@link WebApplicationContext}, kept to detect the context having
+	 * been replaced.
+	 *
+	 * @author agent
+	 */
+	private static final class CachedConversionService {
+
+		private final WebApplicationContext context;
+		private final ConversionService conversionService;
+
+		CachedConversionService(WebApplicationContext context, ConversionService conversionService) {
+
+			this.context = context;
+			this.conversionService = conversionService;
+		}
+	}
+
+	/**
+	 * The primary request parameters and the {@link UriComponentsContributor}s applicable to the parameters of a handler
+	 * method, determined once per method so that building a link only applies the ones known to be needed.
+	 *
+	 * @author agent
+	 */
+	private static class ContributionPlan {
+
+		private final List<NameValueExpression<String>> primaryParams;
+		private final List<ParameterContribution> contributions;
+
+		/**
+		 * Creates a new {@link ContributionPlan} for the given handler {@link Method} and {@link UriComponentsContributor}s.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @param contributors must not be {@literal null}.
+		 */
+		ContributionPlan(Method method, List<UriComponentsContributor> contributors) {
+
+			String[] params = SpringAffordanceBuilder.DISCOVERER.getParams(method);
+
+			this.primaryParams = params.length == 0 //
+					? Collections.emptyList()
+					: new ParamsRequestCondition(params).getExpressions().stream() //
+							.filter(it -> !it.isNegated()) //
+							.filter(it -> it.getValue() != null) //
+							.toList();
+
+			this.contributions = contributors.isEmpty() //
+					? Collections.emptyList()
+					: MethodParameters.of(method).getParameters().stream() //
+							.map(it -> ParameterContribution.of(it, contributors)) //
+							.filter(it -> !it.contributors.isEmpty()) //
+							.toList();
+		}
+
+		/**
+		 * Applies the primary request parameters and contributions for the given method arguments to the given
+		 * {@link UriComponentsBuilder}.
+		 *
+		 * @param builder must not be {@literal null}.
+		 * @param arguments must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		UriComponentsBuilder apply(UriComponentsBuilder builder, @Nullable Object[] arguments) {
+
+			for (NameValueExpression<String> expression : primaryParams) {
+				builder.queryParam(expression.getName(), expression.getValue());
+			}
+
+			for (ParameterContribution contribution : contributions) {
+				contribution.apply(builder, arguments);
+			}
+
+			return builder;
+		}
+	}
+
+	/**
+	 * A {@link MethodParameter} and the {@link UriComponentsContributor}s supporting it.
+	 *
+	 * @author agent
+	 */
+	private static class ParameterContribution {
+
+		private final MethodParameter parameter;
+		private final List<UriComponentsContributor> contributors;
+
+		private ParameterContribution(MethodParameter parameter, List<UriComponentsContributor> contributors) {
+
+			this.parameter = parameter;
+			this.contributors = contributors;
+		}
+
+		static ParameterContribution of(MethodParameter parameter, List<UriComponentsContributor> contributors) {
+
+			return new ParameterContribution(parameter, contributors.stream() //
+					.filter(it -> it.supportsParameter(parameter)) //
+					.toList());
+		}
+
+		void apply(UriComponentsBuilder builder, @Nullable Object[] arguments) {
+
+			Object value = arguments[parameter.getParameterIndex()];
+
+			for (UriComponentsContributor contributor : contributors) {
+				contributor.enhance(builder, parameter, value);
+			}
+		}
+	}
 }
@@ -17,6 +17,7 @@ package org.springframework.hateoas.server.reactive;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.RepresentationModel;
@@ -38,17 +39,45 @@ public interface ReactiveRepresentationModelAssembler<T, D extends Representatio
 	 */
 	Mono<D> toModel(T entity, ServerWebExchange exchange);
 
+	/**
+	 * Converts the given {@link Flux} of {@code T}s into a {@link Flux} of {@code D}s, preserving the order of the
+	 * source elements. At most {@link #getConcurrency()} entities are converted concurrently, so that expensive
+	 * {@link #toModel(Object, ServerWebExchange)} implementations (e.g. ones calling downstream services) don't fan out
+	 * unboundedly.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param exchange must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	default Flux<D> toModels(Flux<? extends T> entities, ServerWebExchange exchange) {
+		return entities.flatMapSequential(entity -> toModel(entity, exchange), getConcurrency());
+	}
+
 	/**
 	 * Converts an {@link Iterable} or {@code T}s into an {@link Iterable} of {@link RepresentationModel} and wraps them
-	 * in a {@link CollectionModel} instance.
+	 * in a {@link CollectionModel} instance. The order of the given entities is retained.
 	 *
 	 * @param entities must not be {@literal null}.
 	 * @return {@link CollectionModel} containing {@code D}.
+	 * @see #toModels(Flux, ServerWebExchange)
 	 */
 	default Mono<CollectionModel<D>> toCollectionModel(Flux<? extends T> entities, ServerWebExchange exchange) {
 
-		return entities.flatMap(entity -> toModel(entity, exchange)) //
+		return toModels(entities, exchange) //
 				.collectList() //
 				.map(CollectionModel::of);
 	}
+
+	/**
+	 * Returns the maximum number of entities to be turned into representation models concurrently. Override to limit the
+	 * load that {@link #toModel(Object, ServerWebExchange)} puts on downstream resources. A value of {@literal 1} results
+	 * in strictly sequential conversion. Defaults to {@link Queues#SMALL_BUFFER_SIZE}.
+	 *
+	 * @return must be greater than zero.
+	 * @since 3.2
+	 */
+	default int getConcurrency() {
+		return Queues.SMALL_BUFFER_SIZE;
+	}
 }
@@ -46,7 +46,8 @@ public interface SimpleReactiveRepresentationModelAssembler<T>
 	}
 
 	/**
-	 * Define links to add to every individual {@link EntityModel}.
+	 * Define links to add to every individual {@link EntityModel}. Use the {@link WebFluxLinkBuilder.LinkContext}
+	 * obtained via {@link WebFluxLinkBuilder#linkContext(ServerWebExchange)} to build them synchronously.
 	 *
 	 * @param resource must not be {@literal null}.
 	 * @param exchange must not be {@literal null}.
@@ -60,21 +61,22 @@ public interface SimpleReactiveRepresentationModelAssembler<T>
 	 * Converts all given entities into resources and wraps the collection as a resource as well.
 	 *
 	 * @see #toModel(Object, ServerWebExchange)
+	 * @see #toModels(Flux, ServerWebExchange)
 	 * @param entities must not be {@literal null}.
-	 * @return {@link CollectionModel} containing {@link EntityModel} of {@code T}, will never be {@literal null}..
+	 * @return {@link CollectionModel} containing {@link EntityModel} of {@code T}, will never be {@literal null}.
 	 */
 	default Mono<CollectionModel<EntityModel<T>>> toCollectionModel(Flux<? extends T> entities,
 			ServerWebExchange exchange) {
 
-		return entities //
-				.flatMap(entity -> toModel(entity, exchange)) //
+		return toModels(entities, exchange) //
 				.collectList() //
 				.map(CollectionModel::of) //
 				.map(it -> addLinks(it, exchange));
 	}
 
 	/**
-	 * Define links to add to the {@link CollectionModel} collection.
+	 * Define links to add to the {@link CollectionModel} collection. Use the {@link WebFluxLinkBuilder.LinkContext}
+	 * obtained via {@link WebFluxLinkBuilder#linkContext(ServerWebExchange)} to build them synchronously.
 	 *
 	 * @param resources must not be {@literal null}.
 	 * @return will never be {@literal null}.
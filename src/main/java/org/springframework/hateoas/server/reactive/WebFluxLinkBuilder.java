@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2024 the original author or authors.
+ * Copyright 2019-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import static org.springframework.web.filter.reactive.ServerWebExchangeContextFi
 
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.List;
 import java.util.function.Function;
 
@@ -30,11 +31,14 @@ import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.TemplateVariables;
+import org.springframework.hateoas.server.core.AffordanceDemand;
+import org.springframework.hateoas.server.core.BaseUriCache;
 import org.springframework.hateoas.server.core.DummyInvocationUtils;
 import org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.server.core.UriMapping;
 import org.springframework.hateoas.server.core.WebHandler;
 import org.springframework.hateoas.server.core.WebHandler.PreparedWebHandler;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.util.Assert;
@@ -55,6 +59,11 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		super(components, variables, affordances);
 	}
 
+	private WebFluxLinkBuilder(UriComponents components, TemplateVariables variables, List<Affordance> affordances,
+			List<String> segments) {
+		super(components, variables, affordances, segments);
+	}
+
 	/**
 	 * Create a {@link WebFluxLinkBuilder} by checking if the Reactor Context contains a {@link ServerWebExchange} and
 	 * using that combined with the Spring Web annotations to build a full URI. If there is no exchange, then fall back to
@@ -78,7 +87,34 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 	 * @param exchange must not be {@literal null}.
 	 */
 	public static WebFluxBuilder linkTo(Object invocation, ServerWebExchange exchange) {
-		return new WebFluxBuilder(linkToInternal(invocation, CurrentRequest.of(exchange)));
+		return new WebFluxBuilder(linkToInternal(invocation, Mono.just(LinkContext.of(exchange))));
+	}
+
+	/**
+	 * Resolves the {@link LinkContext} for the {@link ServerWebExchange} contained in the Reactor Context, or one to
+	 * build relative links in case there is none.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	public static Mono<LinkContext> linkContext() {
+
+		return Mono.deferContextual(
+				context -> Mono.just(LinkContext.of(context.getOrDefault(EXCHANGE_CONTEXT_ATTRIBUTE, null))));
+	}
+
+	/**
+	 * Returns the {@link LinkContext} to synchronously build links for the given {@link ServerWebExchange}.
+	 *
+	 * @param exchange must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 3.2
+	 */
+	public static LinkContext linkContext(ServerWebExchange exchange) {
+
+		Assert.notNull(exchange, "ServerWebExchange must not be null!");
+
+		return LinkContext.of(exchange);
 	}
 
 	/**
@@ -103,6 +139,16 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		return new WebFluxLinkBuilder(components, variables, affordances);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.server.core.TemplateVariableAwareLinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponents, java.util.List, org.springframework.hateoas.TemplateVariables, java.util.List)
+	 */
+	@Override
+	protected WebFluxLinkBuilder createNewInstance(UriComponents components, List<Affordance> affordances,
+			TemplateVariables variables, List<String> segments) {
+		return new WebFluxLinkBuilder(components, variables, affordances, segments);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.LinkBuilderSupport#getThis()
@@ -202,12 +248,16 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 
 			Assert.notNull(invocation, "Invocation must not be null!");
 
-			Mono<WebFluxLinkBuilder> builder = linkToInternal(invocation);
+			PreparedWebHandler<WebFluxLinkBuilder> handler = WebHandler.linkTo(invocation, WebFluxLinkBuilder::new);
+
+			Mono<WebFluxLinkBuilder> builder = linkContext() //
+					.map(context -> AffordanceDemand.withAffordances(() -> context.linkTo(handler)));
 
 			return new WebFluxLink(link.flatMap(it -> builder //
 					.flatMapIterable(WebFluxLinkBuilder::getAffordances) //
 					.singleOrEmpty() //
-					.map(it::andAffordance)));
+					.map(it::andAffordance) //
+					.defaultIfEmpty(it)));
 		}
 
 		/**
@@ -248,49 +298,95 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 	}
 
 	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation) {
-
-		return linkToInternal(invocation,
-				Mono.deferContextual(
-						context -> CurrentRequest.of(context.getOrDefault(EXCHANGE_CONTEXT_ATTRIBUTE, null))));
+		return linkToInternal(invocation, linkContext());
 	}
 
-	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation, Mono<CurrentRequest> builder) {
+	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation, Mono<LinkContext> context) {
 
 		PreparedWebHandler<WebFluxLinkBuilder> handler = WebHandler.linkTo(invocation, WebFluxLinkBuilder::new);
 
-		return builder.map(it -> handler.conclude(it::toBuilder, it.conversionService));
+		return context.map(it -> it.linkTo(handler));
 	}
 
 	/**
-	 * Access to components we can obtain from the current request or fallbacks in case no current request is available.
+	 * Context to build links for a particular {@link ServerWebExchange} synchronously. Resolve it once, either via
+	 * {@link WebFluxLinkBuilder#linkContext()} within a reactive pipeline or via
+	 * {@link WebFluxLinkBuilder#linkContext(ServerWebExchange)} if the exchange is at hand, and use it to build all links
+	 * needed for a response. That avoids the overhead of a reactive pipeline per link, which is especially useful when
+	 * building links for all elements of a collection, e.g. in
+	 * {@link SimpleReactiveRepresentationModelAssembler#addLinks(org.springframework.hateoas.EntityModel, ServerWebExchange)}.
+	 * The context is cached within the exchange.
 	 *
 	 * @author Oliver Drotbohm
+	 * @since 3.2
 	 */
-	private static class CurrentRequest {
+	public static final class LinkContext {
 
 		private static final ConversionService FALLBACK_CONVERSION_SERVICE = new DefaultConversionService();
+		private static final String AFFORDANCE_DEMAND = LinkContext.class.getName() + "#AFFORDANCE_DEMAND";
+		private static final String LINK_CONTEXT = LinkContext.class.getName() + "#LINK_CONTEXT";
+		private static final LinkContext NO_EXCHANGE = new LinkContext(UriComponentsBuilder.fromPath("/"),
+				FALLBACK_CONVERSION_SERVICE, true);
 
-		private UriComponentsBuilder builder;
-		private ConversionService conversionService;
+		private final UriComponentsBuilder builder;
+		private final ConversionService conversionService;
+		private final boolean affordancesDemanded;
 
-		private CurrentRequest(UriComponentsBuilder builder, ConversionService conversionService) {
+		private LinkContext(UriComponentsBuilder builder, ConversionService conversionService,
+				boolean affordancesDemanded) {
 
 			this.builder = builder;
 			this.conversionService = conversionService;
+			this.affordancesDemanded = affordancesDemanded;
 		}
 
-		public static Mono<CurrentRequest> of(@Nullable ServerWebExchange exchange) {
+		/**
+		 * Creates a {@link WebFluxLinkBuilder} pointing to the method invocation represented by the given value. Usually
+		 * used with {@link WebFluxLinkBuilder#methodOn(Class, Object...)}.
+		 *
+		 * @param invocation must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public WebFluxLinkBuilder linkTo(Object invocation) {
+
+			Assert.notNull(invocation, "Invocation must not be null!");
+
+			return linkTo(WebHandler.linkTo(invocation, WebFluxLinkBuilder::new));
+		}
+
+		WebFluxLinkBuilder linkTo(PreparedWebHandler<WebFluxLinkBuilder> handler) {
+
+			return AffordanceDemand.withDefault(affordancesDemanded,
+					() -> handler.conclude(this::toBuilder, conversionService));
+		}
+
+		static LinkContext of(@Nullable ServerWebExchange exchange) {
 
 			if (exchange == null) {
-				return Mono.just(new CurrentRequest(UriComponentsBuilder.fromPath("/"), FALLBACK_CONVERSION_SERVICE));
+				return NO_EXCHANGE;
 			}
 
+			if (exchange.getAttribute(LINK_CONTEXT) instanceof LinkContext context) {
+				return context;
+			}
+
+			LinkContext context = create(exchange);
+
+			exchange.getAttributes().put(LINK_CONTEXT, context);
+
+			return context;
+		}
+
+		private static LinkContext create(ServerWebExchange exchange) {
+
 			ServerHttpRequest request = exchange.getRequest();
 			PathContainer contextPath = request.getPath().contextPath();
+			URI uri = request.getURI();
 
-			var builder = UriComponentsBuilder.fromUri(request.getURI()) //
-					.replacePath(contextPath.toString()) //
-					.replaceQuery("");
+			var builder = uri.getRawUserInfo() != null //
+					? UriComponentsBuilder.fromUri(uri).replacePath(contextPath.toString()).replaceQuery("") //
+					: UriComponentsBuilder.newInstance().uriComponents(
+							BaseUriCache.getBaseUri(uri.getScheme(), uri.getHost(), uri.getPort(), contextPath.toString(), ""));
 
 			ApplicationContext context = exchange.getApplicationContext();
 
@@ -298,11 +394,24 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 					? context.getBean("webFluxConversionService", ConversionService.class)
 					: FALLBACK_CONVERSION_SERVICE;
 
-			return Mono.just(new CurrentRequest(builder, conversionService));
+			return new LinkContext(builder, conversionService, isAffordanceDemanded(exchange));
+		}
+
+		private static boolean isAffordanceDemanded(ServerWebExchange exchange) {
+
+			return exchange.getAttributes().computeIfAbsent(AFFORDANCE_DEMAND, __ -> {
+
+				try {
+					return AffordanceDemand.isDemandedFor(exchange.getRequest().getHeaders().getAccept());
+				} catch (InvalidMediaTypeException o_O) {
+					return true;
+				}
+
+			}) instanceof Boolean demanded && demanded;
 		}
 
-		UriComponentsBuilder toBuilder(UriMapping mapping) {
-			return builder.path(mapping.getMapping());
+		private UriComponentsBuilder toBuilder(UriMapping mapping) {
+			return builder.cloneBuilder().path(mapping.getMapping());
 		}
 	}
 }
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Default {@link HateoasCacheManager}. Caches obtained via {@link #getCache(String, int, Function)} are unbounded and
+ * hold their entries via soft references, so that they can be reclaimed under memory pressure and don't keep
+ * application class loaders alive. Caches obtained via {@link #getBoundedCache(String, int, Function)} evict the least
+ * recently used entries once they reach their capacity. The capacity of any cache can be configured using a
+ * {@code spring.hateoas.cache.$name.capacity} system property or {@code spring.properties} entry, or by handing explicit
+ * capacities into the constructor, which turns unbounded caches into bounded ones.
+ * <p>
+ * The implementation relies on the caching infrastructure of Spring Framework only. Applications preferring a dedicated
+ * caching library like Caffeine can declare a custom {@link HateoasCacheManager} as described there.
+ *
+ * @author agent
+ * @since 3.2
+ */
+public class DefaultHateoasCacheManager implements HateoasCacheManager {
+
+	static final String CAPACITY_PROPERTY = "spring.hateoas.cache.%s.capacity";
+
+	private final Map<String, Integer> capacities;
+	private final Map<String, AbstractHateoasCache<?, ?>> caches;
+
+	/**
+	 * Creates a new {@link DefaultHateoasCacheManager} using the capacities configured via
+	 * {@code spring.hateoas.cache.$name.capacity}.
+	 */
+	public DefaultHateoasCacheManager() {
+		this(Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a new {@link DefaultHateoasCacheManager} bounding the caches with the given names to the given capacities.
+	 *
+	 * @param capacities must not be {@literal null}.
+	 */
+	public DefaultHateoasCacheManager(Map<String, Integer> capacities) {
+
+		Assert.notNull(capacities, "Capacities must not be null!");
+
+		this.capacities = Map.copyOf(capacities);
+		this.caches = new ConcurrentHashMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HateoasCacheManager#getCache(java.lang.String, int, java.util.function.Function)
+	 */
+	@Override
+	public <K, V> HateoasCache<K, V> getCache(String name, int expectedSize, Function<K, @Nullable V> loader) {
+
+		Assert.isTrue(expectedSize > 0, "Expected size must be greater than zero!");
+
+		return getOrCreate(name, loader, capacity -> capacity == null //
+				? new ReferenceHateoasCache<>(expectedSize, loader) //
+				: new BoundedHateoasCache<>(capacity, loader));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HateoasCacheManager#getBoundedCache(java.lang.String, int, java.util.function.Function)
+	 */
+	@Override
+	public <K, V> HateoasCache<K, V> getBoundedCache(String name, int capacity, Function<K, @Nullable V> loader) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		return getOrCreate(name, loader,
+				configured -> new BoundedHateoasCache<>(configured == null ? capacity : configured, loader));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <K, V> HateoasCache<K, V> getOrCreate(String name, Function<K, @Nullable V> loader,
+			Function<@Nullable Integer, AbstractHateoasCache<K, V>> factory) {
+
+		Assert.hasText(name, "Cache name must not be null or empty!");
+		Assert.notNull(loader, "Loader must not be null!");
+
+		return (HateoasCache<K, V>) caches.computeIfAbsent(name, it -> factory.apply(getCapacity(it)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.support.HateoasCacheManager#getStatistics()
+	 */
+	@Override
+	public Map<String, HateoasCache.Statistics> getStatistics() {
+
+		Map<String, HateoasCache.Statistics> statistics = new TreeMap<>();
+
+		caches.forEach((name, cache) -> statistics.put(name, cache.getStatistics()));
+
+		return statistics;
+	}
+
+	@Nullable
+	private Integer getCapacity(String name) {
+
+		Integer configured = capacities.get(name);
+
+		if (configured != null) {
+			return configured;
+		}
+
+		String property = SpringProperties.getProperty(CAPACITY_PROPERTY.formatted(name));
+
+		return StringUtils.hasText(property) ? Integer.valueOf(property.trim()) : null;
+	}
+
+	/**
+	 * Base class for {@link HateoasCache}s keeping track of lookups and misses. {@literal null} values are cached, too.
+	 * Evictions are derived from the number of values computed and the ones still held or explicitly cleared, which
+	 * makes the statistics approximate under concurrent access.
+	 *
+	 * @author agent
+	 */
+	private static abstract class AbstractHateoasCache<K, V> implements HateoasCache<K, V> {
+
+		static final Object NULL = new Object();
+
+		private final LongAdder requests, misses, cleared;
+		private final Function<K, @Nullable V> loader;
+
+		AbstractHateoasCache(Function<K, @Nullable V> loader) {
+
+			this.requests = new LongAdder();
+			this.misses = new LongAdder();
+			this.cleared = new LongAdder();
+			this.loader = loader;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.HateoasCache#get(java.lang.Object)
+		 */
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public V get(K key) {
+
+			requests.increment();
+
+			Object value = doGet(key);
+
+			return value == NULL ? null : (V) value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.HateoasCache#clear()
+		 */
+		@Override
+		public void clear() {
+
+			cleared.add(size());
+			doClear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.HateoasCache#getStatistics()
+		 */
+		@Override
+		public Statistics getStatistics() {
+
+			long size = size();
+			long misses = this.misses.sum();
+			long hits = Math.max(requests.sum() - misses, 0);
+
+			return Statistics.of(hits, misses, Math.max(misses - cleared.sum() - size, 0), size, getCapacity());
+		}
+
+		/**
+		 * Computes the value to cache for the given key, registering a miss.
+		 *
+		 * @param key must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		Object load(K key) {
+
+			misses.increment();
+
+			V value = loader.apply(key);
+
+			return value == null ? NULL : value;
+		}
+
+		abstract Object doGet(K key);
+
+		abstract void doClear();
+
+		abstract int size();
+
+		abstract long getCapacity();
+	}
+
+	/**
+	 * An unbounded {@link HateoasCache} holding its entries in a {@link ConcurrentReferenceHashMap} using soft
+	 * references.
+	 *
+	 * @author agent
+	 */
+	private static class ReferenceHateoasCache<K, V> extends AbstractHateoasCache<K, V> {
+
+		private final Map<K, Object> cache;
+
+		ReferenceHateoasCache(int expectedSize, Function<K, @Nullable V> loader) {
+
+			super(loader);
+
+			this.cache = new ConcurrentReferenceHashMap<>(expectedSize);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#doGet(java.lang.Object)
+		 */
+		@Override
+		Object doGet(K key) {
+
+			Object value = cache.get(key);
+
+			if (value != null) {
+				return value;
+			}
+
+			// Computed outside of the map's lock as loaders might look up other keys of the same cache
+			value = load(key);
+
+			Object existing = cache.putIfAbsent(key, value);
+
+			return existing == null ? value : existing;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#doClear()
+		 */
+		@Override
+		void doClear() {
+			cache.clear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#size()
+		 */
+		@Override
+		int size() {
+			return cache.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#getCapacity()
+		 */
+		@Override
+		long getCapacity() {
+			return -1;
+		}
+	}
+
+	/**
+	 * A {@link HateoasCache} bounded to a maximum number of entries based on a {@link ConcurrentLruCache}.
+	 *
+	 * @author agent
+	 */
+	private static class BoundedHateoasCache<K, V> extends AbstractHateoasCache<K, V> {
+
+		private final ConcurrentLruCache<K, Object> cache;
+
+		BoundedHateoasCache(int capacity, Function<K, @Nullable V> loader) {
+
+			super(loader);
+
+			Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+			this.cache = new ConcurrentLruCache<>(capacity, this::load);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#doGet(java.lang.Object)
+		 */
+		@Override
+		Object doGet(K key) {
+			return cache.get(key);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#doClear()
+		 */
+		@Override
+		void doClear() {
+			cache.clear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#size()
+		 */
+		@Override
+		int size() {
+			return cache.size();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.support.DefaultHateoasCacheManager.AbstractHateoasCache#getCapacity()
+		 */
+		@Override
+		long getCapacity() {
+			return cache.capacity();
+		}
+	}
+}
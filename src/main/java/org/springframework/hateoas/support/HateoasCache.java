@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A loading cache used by Spring HATEOAS to hold metadata derived from types and methods, like request mappings,
+ * affordances or payload metadata. Instances are obtained from the {@link HateoasCacheManager}.
+ *
+ * @author agent
+ * @since 3.2
+ * @see HateoasCacheManager#getCache(String, int, java.util.function.Function)
+ */
+public interface HateoasCache<K, V> {
+
+	/**
+	 * Returns the value for the given key, computing it using the cache's loader if not present yet. Whether
+	 * {@literal null} values produced by the loader are cached is up to the implementation.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	V get(K key);
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	void clear();
+
+	/**
+	 * Returns the {@link Statistics} of the cache.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Statistics getStatistics();
+
+	/**
+	 * A snapshot of the hit, miss and eviction counts of a {@link HateoasCache}.
+	 *
+	 * @author agent
+	 */
+	final class Statistics {
+
+		private static final long UNBOUNDED = -1;
+
+		private final long hitCount, missCount, evictionCount, size, capacity;
+
+		private Statistics(long hitCount, long missCount, long evictionCount, long size, long capacity) {
+
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+			this.capacity = capacity;
+		}
+
+		/**
+		 * Creates a new {@link Statistics} instance for the given counts of an unbounded cache.
+		 *
+		 * @param hitCount must not be negative.
+		 * @param missCount must not be negative.
+		 * @param evictionCount must not be negative.
+		 * @param size must not be negative.
+		 * @return will never be {@literal null}.
+		 */
+		public static Statistics of(long hitCount, long missCount, long evictionCount, long size) {
+			return of(hitCount, missCount, evictionCount, size, UNBOUNDED);
+		}
+
+		/**
+		 * Creates a new {@link Statistics} instance for the given counts of a cache bounded to the given capacity.
+		 *
+		 * @param hitCount must not be negative.
+		 * @param missCount must not be negative.
+		 * @param evictionCount must not be negative.
+		 * @param size must not be negative.
+		 * @param capacity the maximum number of entries, {@literal -1} for an unbounded cache.
+		 * @return will never be {@literal null}.
+		 */
+		public static Statistics of(long hitCount, long missCount, long evictionCount, long size, long capacity) {
+
+			Assert.isTrue(hitCount >= 0, "Hit count must not be negative!");
+			Assert.isTrue(missCount >= 0, "Miss count must not be negative!");
+			Assert.isTrue(evictionCount >= 0, "Eviction count must not be negative!");
+			Assert.isTrue(size >= 0, "Size must not be negative!");
+			Assert.isTrue(capacity > 0 || capacity == UNBOUNDED, "Capacity must be greater than zero or -1!");
+
+			return new Statistics(hitCount, missCount, evictionCount, size, capacity);
+		}
+
+		/**
+		 * Returns the number of lookups that were answered from the cache.
+		 *
+		 * @return
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * Returns the number of lookups that required the value to be computed.
+		 *
+		 * @return
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * Returns the number of entries removed from the cache to stay within its capacity or due to memory pressure.
+		 *
+		 * @return
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * Returns the number of entries currently held in the cache.
+		 *
+		 * @return
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the maximum number of entries the cache holds, {@literal -1} if it is unbounded.
+		 *
+		 * @return
+		 */
+		public long getCapacity() {
+			return capacity;
+		}
+
+		/**
+		 * Returns whether the cache holds a limited number of entries only.
+		 *
+		 * @return
+		 * @see #getCapacity()
+		 */
+		public boolean isBounded() {
+			return capacity != UNBOUNDED;
+		}
+
+		/**
+		 * Returns the ratio of lookups answered from the cache, {@literal 1.0} if no lookups have happened yet.
+		 *
+		 * @return
+		 */
+		public double getHitRate() {
+
+			long requests = hitCount + missCount;
+
+			return requests == 0 ? 1.0 : (double) hitCount / requests;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("HateoasCache.Statistics(hits=%s, misses=%s, evictions=%s, size=%s, capacity=%s)",
+					hitCount, missCount, evictionCount, size, isBounded() ? capacity : "unbounded");
+		}
+	}
+}
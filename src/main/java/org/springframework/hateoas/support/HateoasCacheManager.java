@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * SPI to create the {@link HateoasCache}s Spring HATEOAS keeps its metadata in. As those caches are created when the
+ * library's classes are initialized, a custom implementation cannot be registered as Spring bean but has to be
+ * declared in {@code META-INF/spring.factories} under the {@code org.springframework.hateoas.support.HateoasCacheManager}
+ * key. If none is declared, a {@link DefaultHateoasCacheManager} is used.
+ *
+ * @author agent
+ * @since 3.2
+ */
+public interface HateoasCacheManager {
+
+	/**
+	 * Returns the {@link HateoasCache} registered under the given name, creating it on first access. As a cache is
+	 * shared by all callers asking for the same name, the loader registered first is used, so that it needs to compute
+	 * the value from the key alone. The keys are usually application types and methods, so that implementations should
+	 * not hold on to them strongly to not prevent class loaders from being garbage collected.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param expectedSize the number of entries the library expects for a typical application, must be greater than
+	 *          zero. A sizing hint, not a limit.
+	 * @param loader must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	<K, V> HateoasCache<K, V> getCache(String name, int expectedSize, Function<K, @Nullable V> loader);
+
+	/**
+	 * Returns the {@link HateoasCache} registered under the given name, creating it on first access. In contrast to
+	 * {@link #getCache(String, int, Function)}, the cache must never hold more than a fixed number of entries. That's
+	 * needed for caches whose keys are derived from request data and thus potentially controlled by clients.
+	 * Implementations may allow to configure a different capacity but must not create an unbounded cache.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param capacity the maximum number of entries the cache holds by default, must be greater than zero.
+	 * @param loader must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #getCache(String, int, Function)
+	 */
+	<K, V> HateoasCache<K, V> getBoundedCache(String name, int capacity, Function<K, @Nullable V> loader);
+
+	/**
+	 * Returns the {@link HateoasCache.Statistics} of all caches created by the manager, keyed by cache name.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Map<String, HateoasCache.Statistics> getStatistics();
+
+	/**
+	 * Returns the {@link HateoasCacheManager} to be used by the library.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static HateoasCacheManager getInstance() {
+		return HateoasCacheManagerHolder.INSTANCE;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import java.util.List;
+
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+/**
+ * Lazily looks up the {@link HateoasCacheManager} declared in {@code META-INF/spring.factories}.
+ *
+ * @author agent
+ * @since 3.2
+ */
+class HateoasCacheManagerHolder {
+
+	static final HateoasCacheManager INSTANCE = lookup();
+
+	private static HateoasCacheManager lookup() {
+
+		List<HateoasCacheManager> managers = SpringFactoriesLoader.loadFactories(HateoasCacheManager.class,
+				HateoasCacheManager.class.getClassLoader());
+
+		return managers.isEmpty() ? new DefaultHateoasCacheManager() : managers.get(0);
+	}
+}
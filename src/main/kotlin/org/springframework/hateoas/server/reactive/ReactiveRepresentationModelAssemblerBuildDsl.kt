@@ -17,6 +17,7 @@
 package org.springframework.hateoas.server.reactive
 
 import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitFirst
 import kotlinx.coroutines.reactor.asFlux
 import org.springframework.hateoas.CollectionModel
@@ -58,3 +59,14 @@ suspend fun <T : Any, D : RepresentationModel<D>> ReactiveRepresentationModelAss
 suspend fun <T : Any, D : RepresentationModel<D>> ReactiveRepresentationModelAssembler<T, D>.toCollectionModelAndAwait(
     entities: Flow<T>,
     exchange: ServerWebExchange): CollectionModel<D> = toCollectionModel(entities.asFlux(), exchange).awaitFirst()
+
+/**
+ * Add support for Kotlin co-routines, emitting the models in the order of the given entities while they're created.
+ *
+ * @author agent
+ * @since 3.2
+ * @see ReactiveRepresentationModelAssembler.toModels
+ */
+fun <T : Any, D : RepresentationModel<D>> ReactiveRepresentationModelAssembler<T, D>.toModelsAsFlow(
+    entities: Flow<T>,
+    exchange: ServerWebExchange): Flow<D> = toModels(entities.asFlux(), exchange).asFlow()
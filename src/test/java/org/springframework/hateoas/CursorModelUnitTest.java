@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.CursorModel.CursorMetadata;
+
+/**
+ * Unit tests for {@link CursorModel}.
+ *
+ * @author agent
+ */
+class CursorModelUnitTest {
+
+	static final UriTemplate TEMPLATE = UriTemplate.of("/people{?cursor,size}");
+
+	@Test
+	void addsNavigationLinksForCursors() {
+
+		var model = CursorModel.of(Collections.emptyList(), new CursorMetadata(20, "abc", "xyz")) //
+				.addCursorLinks(TEMPLATE, "cursor", Map.of("size", 20));
+
+		assertThat(model.getNextLink()).map(Link::getHref).hasValue("/people?cursor=abc&size=20");
+		assertThat(model.getPreviousLink()).map(Link::getHref).hasValue("/people?cursor=xyz&size=20");
+	}
+
+	@Test
+	void omitsNavigationLinksForAbsentCursors() {
+
+		var model = CursorModel.of(Collections.emptyList(), new CursorMetadata(20, "abc", null)) //
+				.addCursorLinks(TEMPLATE, "cursor");
+
+		assertThat(model.getNextLink()).map(Link::getHref).hasValue("/people?cursor=abc");
+		assertThat(model.getPreviousLink()).isEmpty();
+	}
+
+	@Test
+	void doesNotAddLinksWithoutMetadata() {
+
+		var model = CursorModel.empty().addCursorLinks(TEMPLATE, "cursor");
+
+		assertThat(model.getLinks()).isEmpty();
+	}
+
+	@Test
+	void preventsNegativeSize() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> new CursorMetadata(-1, null, null));
+	}
+
+	@Test
+	void exposesElementTypeForEmpty() {
+
+		var fallbackType = ResolvableType.forClassWithGenerics(EntityModel.class, String.class);
+		var model = CursorModel.empty(fallbackType);
+
+		assertThat(model.getResolvableType().getGeneric(0).resolve()).isEqualTo(EntityModel.class);
+	}
+
+	@Test
+	void considersMetadataForEquality() {
+
+		var first = CursorModel.of(Collections.emptyList(), new CursorMetadata(10, "abc", null));
+		var second = CursorModel.of(Collections.emptyList(), new CursorMetadata(10, "abc", null));
+		var third = CursorModel.of(Collections.emptyList(), new CursorMetadata(10, "def", null));
+
+		TestUtils.assertEqualAndSameHashCode(first, second);
+		assertThat(first).isNotEqualTo(third);
+	}
+}
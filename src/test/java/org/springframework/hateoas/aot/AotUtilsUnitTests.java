@@ -18,9 +18,12 @@ package org.springframework.hateoas.aot;
 import static org.assertj.core.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.ResponseEntity;
 
 /**
  * Unit tests for {@link AotUtils}.
@@ -40,4 +43,20 @@ class AotUtilsUnitTests {
 						RepresentationModel.class.getName(),
 						"org.springframework.hateoas.EntityModel$MapSuppressingUnwrappingSerializer");
 	}
+
+	@Test
+	void registersCustomRepresentationModelTypesForReflection() {
+
+		var reflection = new RuntimeHints().reflection();
+		var type = ResolvableType.forClassWithGenerics(ResponseEntity.class, PersonModel.class);
+
+		AotUtils.registerModelDomainTypesForReflection(type, reflection, AotUtilsUnitTests.class);
+
+		assertThat(reflection.getTypeHint(PersonModel.class)).isNotNull();
+		assertThat(reflection.getTypeHint(RepresentationModel.class)).isNull();
+	}
+
+	static class PersonModel extends RepresentationModel<PersonModel> {
+		public String firstname;
+	}
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.aot;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.hateoas.server.core.AnnotationMappingDiscoverer;
+import org.springframework.javapoet.ClassName;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Unit tests for {@link ControllerMethodReturnTypeAotProcessor}.
+ *
+ * @author agent
+ */
+class ControllerMethodReturnTypeAotProcessorUnitTests {
+
+	@Test
+	void generatesRegistrationOfMappingMetadata() throws Exception {
+
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("controller", new RootBeanDefinition(SampleController.class));
+
+		var files = new InMemoryGeneratedFiles();
+		var context = new DefaultGenerationContext(new ClassNameGenerator(ClassName.get("com.acme", "Application")), files);
+		var code = mock(BeanRegistrationCode.class);
+
+		var contribution = new ControllerMethodReturnTypeAotProcessor()
+				.processAheadOfTime(RegisteredBean.of(beanFactory, "controller"));
+
+		assertThat(contribution).isNotNull();
+
+		contribution.applyTo(context, code);
+		context.writeGeneratedContent();
+
+		verify(code).addInstancePostProcessor(any(MethodReference.class));
+
+		var source = files.getGeneratedFiles(Kind.SOURCE).keySet().stream() //
+				.filter(it -> it.contains("LinkMetadata")) //
+				.findFirst() //
+				.orElseThrow();
+
+		assertThat(files.getGeneratedFileContent(Kind.SOURCE, source)) //
+				.contains("PrecomputedMappings.findMethod(ControllerMethodReturnTypeAotProcessorUnitTests.SampleController.class, "
+						+ "\"findById\", \"java.lang.Long\")") //
+				.contains("\"/people/{id}\", new String[] { \"GET\" }") //
+				.contains("\"/people\", new String[] { \"POST\" }, new String[] { \"application/json\" }");
+	}
+
+	@Test
+	void registersMappingsMatchingReflectiveLookup() throws Exception {
+
+		var source = generateSource(RegexController.class);
+		var discoverer = new AnnotationMappingDiscoverer(RequestMapping.class);
+
+		for (var method : RegexController.class.getDeclaredMethods()) {
+
+			var mapping = discoverer.getUriMapping(RegexController.class, method).getMapping();
+
+			assertThat(source).contains("\"" + method.getName() + "\")") //
+					.contains("\"" + mapping + "\", new String[] { \"GET\" }");
+		}
+
+		assertThat(source).doesNotContain("[a-z]+");
+	}
+
+	private static String generateSource(Class<?> type) throws Exception {
+
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("controller", new RootBeanDefinition(type));
+
+		var files = new InMemoryGeneratedFiles();
+		var context = new DefaultGenerationContext(new ClassNameGenerator(ClassName.get("com.acme", "Application")), files);
+
+		new ControllerMethodReturnTypeAotProcessor() //
+				.processAheadOfTime(RegisteredBean.of(beanFactory, "controller")) //
+				.applyTo(context, mock(BeanRegistrationCode.class));
+
+		context.writeGeneratedContent();
+
+		var source = files.getGeneratedFiles(Kind.SOURCE).keySet().stream() //
+				.filter(it -> it.contains("LinkMetadata")) //
+				.findFirst() //
+				.orElseThrow();
+
+		return files.getGeneratedFileContent(Kind.SOURCE, source);
+	}
+
+	@RestController
+	@RequestMapping("/people/{id:\\d+}")
+	static class RegexController {
+
+		@GetMapping
+		Object findById() {
+			return new Object();
+		}
+
+		@GetMapping("/addresses/{name:[a-z]+}")
+		Object findAddress() {
+			return new Object();
+		}
+	}
+
+	@RestController
+	@RequestMapping("/people")
+	static class SampleController {
+
+		@GetMapping("/{id}")
+		Object findById(Long id) {
+			return new Object();
+		}
+
+		@PostMapping(consumes = "application/json")
+		Object create() {
+			return new Object();
+		}
+	}
+}
@@ -28,8 +28,14 @@ import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.TypeHint;
 import org.springframework.aot.hint.TypeReference;
 import org.springframework.core.DecoratingProxy;
+import org.springframework.hateoas.Affordance;
+import org.springframework.hateoas.CursorModel.CursorMetadata;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
+import org.springframework.hateoas.PagedModel.PageMetadata;
+import org.springframework.hateoas.QueryParameter;
+import org.springframework.hateoas.SlicedModel.SliceMetadata;
+import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.server.core.LastInvocationAware;
 
 /**
@@ -50,6 +56,26 @@ class HateoasTypesRuntimeHintsUnitTests {
 						Links.class.getSimpleName());
 	}
 
+	@Test
+	void registersHintsForTypesWithJacksonAnnotatedFieldsOnly() {
+
+		assertThat(createHints().reflection().typeHints())
+				.extracting(TypeHint::getType)
+				.contains(TypeReference.of(PageMetadata.class), //
+						TypeReference.of(SliceMetadata.class), //
+						TypeReference.of(CursorMetadata.class));
+	}
+
+	@Test
+	void doesNotRegisterTypesNotIntrospectedByJackson() {
+
+		assertThat(createHints().reflection().typeHints())
+				.extracting(TypeHint::getType)
+				.doesNotContain(TypeReference.of(UriTemplate.class), //
+						TypeReference.of(Affordance.class), //
+						TypeReference.of(QueryParameter.class));
+	}
+
 	@Test // GH-2384
 	void registersProxyHintsForLastInvocationAware() {
 
@@ -53,6 +53,19 @@ public abstract class LinkDiscovererUnitTest {
 				.hasValue(Link.of("firstHref", "relation"));
 	}
 
+	@Test
+	void findsSameLinksInInputStream() {
+
+		LinkDiscoverer discoverer = getDiscoverer();
+
+		for (String relation : new String[] { "self", "relation" }) {
+			assertThat(discoverer.findLinkWithRel(relation, toStream(getInputString()))) //
+					.isEqualTo(discoverer.findLinkWithRel(relation, getInputString()));
+		}
+
+		assertThat(discoverer.findLinkWithRel("self", toStream(getInputStringWithoutLinkContainer()))).isEmpty();
+	}
+
 	@Test
 	void findsAllLinks() {
 
@@ -102,6 +115,10 @@ public abstract class LinkDiscovererUnitTest {
 		}
 	}
 
+	protected static InputStream toStream(String source) {
+		return new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * Return the {@link LinkDiscoverer} to be tested.
 	 *
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Unit tests for {@link TraversonCache} and its usage in {@link Traverson}.
+ *
+ * @author agent
+ */
+class TraversonCacheUnitTest {
+
+	static final URI ROOT = URI.create("http://localhost/");
+	static final URI MOVIES = URI.create("http://localhost/movies");
+
+	RestOperations operations;
+	List<HttpHeaders> requests;
+	Traverson traverson;
+
+	@BeforeEach
+	void setUp() {
+
+		this.operations = mock(RestOperations.class);
+		this.requests = new ArrayList<>();
+		this.traverson = new Traverson(ROOT, MediaTypes.HAL_JSON) //
+				.setRestOperations(operations) //
+				.setCache(TraversonCache.inMemory(10));
+	}
+
+	@Test
+	void reusesFreshResponses() {
+
+		respondWith(headers -> headers.setCacheControl("max-age=60"));
+
+		assertThat(traverse()).isEqualTo("http://localhost/movies/1");
+		assertThat(traverse()).isEqualTo("http://localhost/movies/1");
+
+		assertThat(requests).hasSize(2);
+	}
+
+	@Test
+	void revalidatesStaleResponsesUsingETag() {
+
+		respondWith(headers -> headers.setETag("\"4711\""));
+
+		traverse();
+
+		assertThat(traverse()).isEqualTo("http://localhost/movies/1");
+		assertThat(requests).hasSize(4);
+		assertThat(requests.subList(2, 4)) //
+				.extracting(HttpHeaders::getIfNoneMatch) //
+				.containsOnly(List.of("\"4711\""));
+	}
+
+	@Test
+	void revalidatesResponsesUsingLastModified() {
+
+		respondWith(headers -> {
+			headers.setCacheControl("no-cache");
+			headers.setLastModified(0);
+		});
+
+		traverse();
+		traverse();
+
+		assertThat(requests).hasSize(4);
+		assertThat(requests.get(2).getIfModifiedSince()).isEqualTo(0);
+	}
+
+	@Test
+	void doesNotStoreResponsesMarkedNoStore() {
+
+		respondWith(headers -> {
+			headers.setCacheControl("no-store, max-age=60");
+			headers.setETag("\"4711\"");
+		});
+
+		traverse();
+		traverse();
+
+		assertThat(requests).hasSize(4);
+		assertThat(requests).extracting(HttpHeaders::getIfNoneMatch).allMatch(List::isEmpty);
+	}
+
+	@Test
+	void evictsEntriesIfRevalidationResponseIsMarkedNoStore() {
+
+		respondWith(headers -> headers.setETag("\"4711\""), headers -> headers.setCacheControl("no-store"));
+
+		traverse();
+		traverse();
+
+		assertThat(traverse()).isEqualTo("http://localhost/movies/1");
+		assertThat(requests).hasSize(6);
+		assertThat(requests.subList(2, 4)).extracting(HttpHeaders::getIfNoneMatch).containsOnly(List.of("\"4711\""));
+		assertThat(requests.subList(4, 6)).extracting(HttpHeaders::getIfNoneMatch).allMatch(List::isEmpty);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntries() {
+
+		TraversonCache cache = TraversonCache.inMemory(1);
+		TraversonCache.Key first = new TraversonCache.Key(ROOT, new HttpHeaders());
+		TraversonCache.Key second = new TraversonCache.Key(MOVIES, new HttpHeaders());
+		TraversonCache.Entry entry = TraversonCache.Entry.of("{}", MediaTypes.HAL_JSON, new HttpHeaders());
+
+		cache.put(first, entry);
+		cache.put(second, entry);
+
+		assertThat(cache.get(first)).isNull();
+		assertThat(cache.get(second)).isSameAs(entry);
+	}
+
+	@Test
+	void rejectsInvalidMaximumNumberOfEntries() {
+		assertThatIllegalArgumentException().isThrownBy(() -> TraversonCache.inMemory(0));
+	}
+
+	private String traverse() {
+		return traverson.follow("movies", "movie").asLink().getHref();
+	}
+
+	private void respondWith(Consumer<HttpHeaders> cacheHeaders) {
+		respondWith(cacheHeaders, cacheHeaders);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void respondWith(Consumer<HttpHeaders> cacheHeaders, Consumer<HttpHeaders> revalidationHeaders) {
+
+		Function<URI, String> bodies = uri -> uri.equals(ROOT) //
+				? "{ \"_links\" : { \"movies\" : { \"href\" : \"http://localhost/movies\" } } }"
+				: "{ \"_links\" : { \"movie\" : { \"href\" : \"http://localhost/movies/1\" } } }";
+
+		when(operations.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+				.thenAnswer(invocation -> {
+
+					URI uri = invocation.getArgument(0);
+					HttpHeaders requestHeaders = invocation.<HttpEntity<?>> getArgument(2).getHeaders();
+
+					requests.add(requestHeaders);
+
+					boolean conditional = !requestHeaders.getIfNoneMatch().isEmpty()
+							|| requestHeaders.getIfModifiedSince() != -1;
+
+					HttpHeaders headers = new HttpHeaders();
+					headers.setContentType(MediaTypes.HAL_JSON);
+					(conditional ? revalidationHeaders : cacheHeaders).accept(headers);
+
+					return conditional //
+							? new ResponseEntity<String>(headers, HttpStatus.NOT_MODIFIED)
+							: new ResponseEntity<>(bodies.apply(uri), headers, HttpStatus.OK);
+				});
+	}
+}
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.client.Traverson.TraversalBuilder;
 import org.springframework.http.HttpHeaders;
@@ -43,6 +45,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
@@ -438,6 +441,97 @@ class TraversonTest {
 				.havingHeader(customHeaderName, contains("charlie")); //
 	}
 
+	@Test
+	void followsForkedTraversalsFromCommonResource() {
+
+		// tag::fork[]
+		List<Link> links = traverson.follow() //
+				.thenAll(rel("movies"), rel("actors")) //
+				.asLinks();
+		// end::fork[]
+
+		assertThat(links).extracting(Link::getHref) //
+				.containsExactly(server.rootResource() + "/movies", server.rootResource() + "/actors");
+		assertThat(links).extracting(Link::getRel) //
+				.extracting(LinkRelation::value) //
+				.containsExactly("movies", "actors");
+	}
+
+	@Test
+	void executesForkedTraversalsOnConfiguredExecutor() {
+
+		AtomicInteger executions = new AtomicInteger();
+
+		traverson.setExecutor(it -> {
+			executions.incrementAndGet();
+			it.run();
+		});
+
+		List<String> names = traverson.follow("movies", "movie") //
+				.thenAll(rel("actor"), rel("actor")) //
+				.toObjects("$.name");
+
+		assertThat(names).containsExactly("Keanu Reaves", "Keanu Reaves");
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void forkedTraversalsReadIntoResourceInstances() {
+
+		var typeReference = new ParameterizedTypeReference<EntityModel<Actor>>() {};
+
+		List<EntityModel<Actor>> actors = traverson.follow("movies", "movie") //
+				.thenAll(rel("actor")) //
+				.toObjects(typeReference);
+
+		assertThat(actors).extracting(it -> it.getContent().name).containsExactly("Keanu Reaves");
+	}
+
+	@Test
+	void fansOutRelationOverTemplateParameters() {
+
+		traverson = new Traverson(URI.create(server.rootResource() + "/github-with-template"), MediaTypes.HAL_JSON);
+
+		// tag::fan-out[]
+		List<Map<String, ?>> parameters = List.of(Map.of("issue", 1), Map.of("issue", 2), Map.of("issue", 3));
+
+		List<Link> links = traverson.follow() //
+				.thenAll("rel_to_templated_link", parameters) //
+				.asLinks();
+		// end::fan-out[]
+
+		assertThat(links).extracting(Link::getHref).containsExactly("/github/1", "/github/2", "/github/3");
+		assertThat(links).extracting(Link::getRel) //
+				.extracting(LinkRelation::value) //
+				.containsOnly("rel_to_templated_link");
+	}
+
+	@Test
+	void forkedTraversalRejectsMissingLink() {
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> traverson.follow().thenAll(rel("movies"), rel("unknown")).toObjects(String.class));
+	}
+
+	@Test
+	void readsHopsFromResponseStreams() {
+
+		// No converter to read the representations into Strings
+		traverson.setRestOperations(new RestTemplate(List.of(new ByteArrayHttpMessageConverter())));
+
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+		assertThat(traverson.follow("movies", "movie").asLink().getRel()).isEqualTo(LinkRelation.of("movie"));
+	}
+
+	@Test
+	void rejectsMissingLinkNamingTheResourceRequested() {
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> traverson.follow("unknown").asLink()) //
+				.withMessageContaining("'unknown'") //
+				.withMessageContaining(baseUri.toString());
+	}
+
 	private static void setUpActors() {
 
 		EntityModel<Actor> actor = EntityModel.of(new Actor("Keanu Reaves"));
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static net.jadler.Jadler.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.hateoas.client.Hop.*;
+
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.codec.DataBufferDecoder;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.HypermediaWebClientConfigurer;
+import org.springframework.hateoas.server.core.TypeReferences.PagedModelType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Integration tests for {@link WebClientTraverson}.
+ *
+ * @author agent
+ */
+class WebClientTraversonTest {
+
+	static URI baseUri;
+	static Server server;
+	static WebClient client;
+
+	WebClientTraverson traverson;
+
+	@BeforeAll
+	static void setUpClass() {
+
+		server = new Server();
+		baseUri = URI.create(server.rootResource());
+
+		try (var context = new AnnotationConfigApplicationContext(HalConfig.class)) {
+			client = context.getBean(HypermediaWebClientConfigurer.class) //
+					.registerHypermediaTypes(WebClient.builder()) //
+					.build();
+		}
+
+		EntityModel<Actor> actor = EntityModel.of(new Actor("Keanu Reaves"));
+		String actorUri = server.mockResourceFor(actor);
+
+		EntityModel<Movie> movie = EntityModel.of(new Movie("The Matrix"));
+		movie.add(Link.of(actorUri, "actor"));
+
+		server.mockResourceFor(movie);
+		server.finishMocking();
+
+		for (int i = 0; i < 3; i++) {
+
+			String next = i < 2 ? ", \"next\" : { \"href\" : \"" + baseUri + "/people?page=" + (i + 1) + "\" }" : "";
+
+			onRequest() //
+					.havingPathEqualTo("/people") //
+					.havingQueryString(i == 0 ? nullValue() : equalTo("page=" + i)) //
+					.respond() //
+					.withBody("{ \"_embedded\" : { \"people\" : [ { \"name\" : \"" + (i * 2) + "\" }, { \"name\" : \""
+							+ (i * 2 + 1) + "\" } ] }, \"_links\" : { \"self\" : { \"href\" : \"" + baseUri + "/people\" }"
+							+ next + " }, \"page\" : { \"size\" : 2, \"totalElements\" : 6, \"totalPages\" : 3, \"number\" : "
+							+ i + " } }");
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		this.traverson = new WebClientTraverson(baseUri, client, MediaTypes.HAL_JSON);
+	}
+
+	@AfterAll
+	static void tearDown() throws IOException {
+
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Test
+	void rejectsEmptyMediaTypes() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new WebClientTraverson(baseUri, client));
+	}
+
+	@Test
+	void readsTraversalIntoJsonPathExpression() {
+
+		traverson.follow("movies", "movie", "actor").<String> toObject("$.name") //
+				.as(StepVerifier::create) //
+				.expectNext("Keanu Reaves") //
+				.verifyComplete();
+	}
+
+	@Test
+	void readsHopsFromResponseStreams() {
+
+		// No decoder to read the representations into Strings
+		WebClient streamingClient = WebClient.builder() //
+				.codecs(it -> {
+					it.registerDefaults(false);
+					it.customCodecs().register(new DataBufferDecoder());
+				}) //
+				.build();
+
+		new WebClientTraverson(baseUri, streamingClient, MediaTypes.HAL_JSON) //
+				.follow("movies", "movie", "actor") //
+				.<String> toObject("$.name") //
+				.as(StepVerifier::create) //
+				.expectNext("Keanu Reaves") //
+				.verifyComplete();
+	}
+
+	@Test
+	void readsTraversalIntoResourceInstance() {
+
+		var typeReference = new ParameterizedTypeReference<EntityModel<Actor>>() {};
+
+		traverson.follow("movies").follow("movie").follow("actor").toObject(typeReference) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getContent().name).isEqualTo("Keanu Reaves")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void sendsConfiguredHeaders() {
+
+		var headers = new HttpHeaders();
+		headers.add("X-Traverson", "reactive");
+
+		traverson.follow(rel("movies").header("X-Hop", "movies")).withHeaders(headers).<String> toObject("$") //
+				.as(StepVerifier::create) //
+				.expectNextCount(1) //
+				.verifyComplete();
+
+		verifyThatRequest().havingPathEqualTo("/") //
+				.havingHeader(HttpHeaders.ACCEPT, hasItem(MediaTypes.HAL_JSON_VALUE)) //
+				.havingHeader("X-Traverson", contains("reactive")) //
+				.receivedOnce();
+
+		verifyThatRequest().havingPathEqualTo("/movies") //
+				.havingHeader("X-Hop", contains("movies")) //
+				.havingHeader("X-Traverson", contains("reactive")) //
+				.receivedOnce();
+	}
+
+	@Test
+	void returnsLastLinkFound() {
+
+		traverson.follow("movies").asLink() //
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.getHref()).endsWith("/movies");
+					assertThat(it.hasRel("movies")).isTrue();
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void signalsErrorForMissingLink() {
+
+		traverson.follow("movies", "unknown").asLink() //
+				.as(StepVerifier::create) //
+				.expectErrorSatisfies(it -> assertThat(it) //
+						.isInstanceOf(IllegalStateException.class) //
+						.hasMessageContaining("unknown")) //
+				.verify();
+	}
+
+	@Test
+	void emitsContentOfAllPages() {
+
+		new WebClientTraverson(URI.create(baseUri + "/people"), client, MediaTypes.HAL_JSON) //
+				.follow() //
+				.toPagedContent(new PagedModelType<EntityModel<Actor>>() {}, 1) //
+				.map(it -> it.getContent().name) //
+				.as(StepVerifier::create) //
+				.expectNext("0", "1", "2", "3", "4", "5") //
+				.verifyComplete();
+	}
+
+	@Test
+	void emitsAllPages() {
+
+		new WebClientTraverson(URI.create(baseUri + "/people"), client, MediaTypes.HAL_JSON) //
+				.follow() //
+				.toPages(new PagedModelType<EntityModel<Actor>>() {}) //
+				.map(it -> it.getMetadata().getNumber()) //
+				.as(StepVerifier::create) //
+				.expectNext(0L, 1L, 2L) //
+				.verifyComplete();
+	}
+
+	@Test
+	void rejectsInvalidPrefetch() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> traverson.follow().toPagedContent(new PagedModelType<EntityModel<Actor>>() {}, 0));
+	}
+
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class HalConfig {}
+}
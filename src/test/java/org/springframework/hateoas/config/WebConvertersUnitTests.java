@@ -19,9 +19,16 @@ import static org.assertj.core.api.Assertions.*;
 
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 
 /**
  * Unit tests for {@link WebConverters}.
@@ -38,4 +45,26 @@ class WebConvertersUnitTests {
 		assertThatNoException() //
 				.isThrownBy(() -> converters.augmentClient(Collections.emptyList()));
 	}
+
+	@Test
+	void sharesConfiguredMapperBetweenAugmentedConverters() {
+
+		HypermediaMappingInformation information = () -> List.of(MediaTypes.HAL_JSON);
+		WebConverters converters = WebConverters.of(new JsonMapper(), List.of(information));
+
+		List<HttpMessageConverter<?>> server = new ArrayList<>(List.of(new JacksonJsonHttpMessageConverter()));
+		List<HttpMessageConverter<?>> client = new ArrayList<>(List.of(new JacksonJsonHttpMessageConverter()));
+
+		converters.augmentServer(server);
+		converters.augmentClient(client);
+
+		assertThat(getMapper(server, MediaTypes.HAL_JSON)).isNotNull().isSameAs(getMapper(client, MediaTypes.HAL_JSON));
+	}
+
+	private static JsonMapper getMapper(List<HttpMessageConverter<?>> converters, MediaType mediaType) {
+
+		return ((JacksonJsonHttpMessageConverter) converters.get(0)) //
+				.getMappersForType(RepresentationModel.class) //
+				.get(mediaType);
+	}
 }
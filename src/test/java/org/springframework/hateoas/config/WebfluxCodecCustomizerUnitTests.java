@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.JacksonCodecSupport;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+
+/**
+ * Unit tests for {@link WebfluxCodecCustomizer}.
+ *
+ * @author agent
+ */
+class WebfluxCodecCustomizerUnitTests {
+
+	HypermediaMappingInformation information = () -> List.of(MediaTypes.HAL_JSON);
+	WebfluxCodecCustomizer customizer = new WebfluxCodecCustomizer(List.of(information), new JsonMapper());
+
+	@Test
+	void sharesConfiguredMapperBetweenCustomizedCodecs() {
+
+		JacksonJsonEncoder encoder = new JacksonJsonEncoder();
+		JacksonJsonDecoder decoder = new JacksonJsonDecoder();
+
+		customizer.accept(encoder);
+		customizer.accept(decoder);
+
+		assertThat(getMapper(encoder, MediaTypes.HAL_JSON)) //
+				.isNotNull() //
+				.isSameAs(getMapper(decoder, MediaTypes.HAL_JSON)) //
+				.isSameAs(customizer.getMapperFor(MediaTypes.HAL_JSON).orElse(null));
+	}
+
+	@Test
+	void sharesConfiguredMapperWithCustomizerForGenericJsonTypes() {
+
+		JacksonJsonEncoder server = new JacksonJsonEncoder();
+		JacksonJsonDecoder client = new JacksonJsonDecoder();
+
+		customizer.accept(server);
+		customizer.withGenericJsonTypes().accept(client);
+
+		JsonMapper mapper = getMapper(server, MediaTypes.HAL_JSON);
+
+		assertThat(mapper).isNotNull();
+		assertThat(getMapper(client, MediaTypes.HAL_JSON)).isSameAs(mapper);
+		assertThat(getMapper(client, MediaType.APPLICATION_JSON)).isSameAs(mapper);
+		assertThat(getMapper(server, MediaType.APPLICATION_JSON)).isNull();
+	}
+
+	private static JsonMapper getMapper(JacksonCodecSupport<JsonMapper> codec, MediaType mediaType) {
+		return codec.getMappersForType(RepresentationModel.class).get(mediaType);
+	}
+}
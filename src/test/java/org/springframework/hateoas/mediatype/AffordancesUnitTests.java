@@ -17,6 +17,8 @@ package org.springframework.hateoas.mediatype;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -31,12 +33,16 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.support.Employee;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author Oliver Drotbohm
  */
 public class AffordancesUnitTests {
 
+	private static final String FACTORIES = "factories";
+
 	@Test
 	void affordanceConvenienceMethodChainsExistingLink() {
 
@@ -92,6 +98,64 @@ public class AffordancesUnitTests {
 		};
 	}
 
+	@Test
+	void createsAffordanceModelsLazilyAndOnlyOnce() {
+
+		List<AffordanceModelFactory> factories = getFactories();
+		var invocations = new AtomicInteger();
+
+		ReflectionTestUtils.setField(Affordances.class, FACTORIES, factories.stream() //
+				.map(it -> countingFactory(it, invocations)) //
+				.toList());
+
+		try {
+
+			Affordance affordance = Affordances.of(Link.of("/")) //
+					.afford(HttpMethod.POST) //
+					.withInputAndOutput(Employee.class) //
+					.toLink() //
+					.getAffordances().get(0);
+
+			assertThat(invocations.get()).isZero();
+
+			AffordanceModel model = affordance.getAffordanceModel(MediaTypes.HAL_FORMS_JSON);
+
+			assertThat(model).isNotNull();
+			assertThat((AffordanceModel) affordance.getAffordanceModel(MediaTypes.HAL_FORMS_JSON)).isSameAs(model);
+			assertThat(invocations.get()).isEqualTo(1);
+
+			assertThat((AffordanceModel) affordance.getAffordanceModel(MediaTypes.UBER_JSON)).isNotNull();
+			assertThat(invocations.get()).isEqualTo(2);
+
+		} finally {
+			ReflectionTestUtils.setField(Affordances.class, FACTORIES, factories);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<AffordanceModelFactory> getFactories() {
+		return (List<AffordanceModelFactory>) ReflectionTestUtils.getField(Affordances.class, FACTORIES);
+	}
+
+	private static AffordanceModelFactory countingFactory(AffordanceModelFactory delegate, AtomicInteger invocations) {
+
+		return new AffordanceModelFactory() {
+
+			@Override
+			public MediaType getMediaType() {
+				return delegate.getMediaType();
+			}
+
+			@Override
+			public AffordanceModel getAffordanceModel(ConfiguredAffordance configured) {
+
+				invocations.incrementAndGet();
+
+				return delegate.getAffordanceModel(configured);
+			}
+		};
+	}
+
 	private static void assertAffordanceModel(Affordance affordance, Consumer<AffordanceModel> assertions) {
 
 		Stream.of(MediaTypes.COLLECTION_JSON, MediaTypes.HAL_FORMS_JSON, MediaTypes.UBER_JSON) //
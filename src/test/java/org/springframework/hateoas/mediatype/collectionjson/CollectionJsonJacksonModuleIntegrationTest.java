@@ -30,6 +30,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CursorModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
@@ -216,6 +217,22 @@ class CollectionJsonJacksonModuleIntegrationTest {
 		assertThat(result).isEqualTo(setupAnnotatedPagedResources());
 	}
 
+	@Test
+	void serializesCursorModel() {
+
+		List<EntityModel<SimplePojo>> content = new ArrayList<>();
+		content.add(EntityModel.of(new SimplePojo("test1", 1), Link.of("localhost")));
+		content.add(EntityModel.of(new SimplePojo("test2", 2), Link.of("localhost")));
+
+		// Collection+JSON has no place for the cursor metadata, so only the links survive the round trip
+		$.assertSerializes(CursorModel.of(content, null, PAGINATION_LINKS)) //
+				.into(it -> {
+					assertThat(it.read("$.collection.items.length()", Integer.class)).isEqualTo(2);
+					assertThat(it.read("$.collection.links[0].rel", String.class)).isEqualTo("next");
+				}) //
+				.andBack(EntityModel.class, SimplePojo.class);
+	}
+
 	@Test
 	void honorsJsonIgnoresOnDeserialization() {
 
@@ -17,9 +17,16 @@ package org.springframework.hateoas.mediatype.collectionjson;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.MappingTestUtils;
 import org.springframework.hateoas.MappingTestUtils.ContextualMapper;
 import org.springframework.hateoas.client.LinkDiscoverer;
@@ -75,4 +82,37 @@ class CollectionJsonLinkDiscovererUnitTest {
 							"https://examples.org/images/rwilliams");
 		});
 	}
+
+	@Test
+	void findsLinksForMultipleRelationsInSingleParse() {
+
+		$.assertFileContent("spec-part2.json").satisfies(content -> {
+
+			var result = new CollectionJsonLinkDiscoverer().findLinksWithRels(
+					List.of(IanaLinkRelations.SELF, LinkRelation.of("feed"), LinkRelation.of("blog")), toStream(content));
+
+			assertThat(result.keySet()).extracting(LinkRelation::value).containsExactly("self", "feed", "blog");
+			assertThat(result.get(IanaLinkRelations.SELF)).extracting(Link::getHref)
+					.containsExactly("https://example.org/friends/");
+			assertThat(result.get(LinkRelation.of("feed"))).extracting(Link::getHref)
+					.containsExactly("https://example.org/friends/rss");
+			assertThat(result.get(LinkRelation.of("blog"))).hasSize(3);
+		});
+	}
+
+	@Test
+	void findsSameLinksInInputStream() {
+
+		$.assertFileContent("spec-part2.json").satisfies(content -> {
+
+			for (String relation : new String[] { "self", "feed", "blog", "avatar", "unknown" }) {
+				assertThat(discoverer.findLinkWithRel(relation, toStream(content))) //
+						.isEqualTo(discoverer.findLinkWithRel(relation, content));
+			}
+		});
+	}
+
+	private static InputStream toStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
 }
@@ -201,6 +201,48 @@ class DefaultCurieProviderUnitTest {
 				it -> assertThat(it.getHref()).startsWith("http://localhost"));
 	}
 
+	@Test
+	void reusesCurieInformationPerApplicationUri() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", UriTemplate.of("/docs/{rel}"));
+		Links links = Links.of(Link.of("http://localhost", "name:foo"));
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		Collection<?> curies = provider.getCurieInformation(links);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		assertThat(provider.getCurieInformation(links)).isSameAs(curies);
+
+		MockHttpServletRequest other = new MockHttpServletRequest();
+		other.setServerName("example.com");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(other));
+
+		assertThat(provider.getCurieInformation(links)).isNotSameAs(curies) //
+				.element(0).isInstanceOfSatisfying(Curie.class,
+						it -> assertThat(it.getHref()).isEqualTo("http://example.com/docs/{rel}"));
+	}
+
+	@Test
+	void doesNotCacheCurieInformationIfHrefIsCustomized() {
+
+		DefaultCurieProvider provider = new DefaultCurieProvider("name", UriTemplate.of("/docs/{rel}")) {
+
+			@Override
+			protected String getCurieHref(String name, UriTemplate template) {
+				return "/custom" + template.toString();
+			}
+		};
+
+		Links links = Links.of(Link.of("http://localhost", "name:foo"));
+
+		assertThat(provider.getCurieInformation(links)).isNotSameAs(provider.getCurieInformation(links)) //
+				.element(0).isInstanceOfSatisfying(Curie.class,
+						it -> assertThat(it.getHref()).isEqualTo("/custom/docs/{rel}"));
+	}
+
 	private static Map<String, UriTemplate> getCuries() {
 
 		Map<String, UriTemplate> curies = new HashMap<>(2);
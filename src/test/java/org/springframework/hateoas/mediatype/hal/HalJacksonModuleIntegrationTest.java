@@ -43,6 +43,7 @@ import org.springframework.context.support.StaticMessageSource;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.*;
 import org.springframework.hateoas.MappingTestUtils.ContextualMapper;
+import org.springframework.hateoas.CursorModel.CursorMetadata;
 import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.hateoas.mediatype.hal.HalConfiguration.RenderSingleLinks;
@@ -258,6 +259,19 @@ class HalJacksonModuleIntegrationTest {
 				.andBack(EntityModel.class, SimpleAnnotatedPojo.class);
 	}
 
+	@Test
+	void serializesCursorModel() {
+
+		$.assertSerializes(setupAnnotatedCursorModel()) //
+				.into(it -> {
+					assertThat(it.read("$._embedded.pojos[0].text", String.class)).isEqualTo("test1");
+					assertThat(it.read("$._links.next.href", String.class)).isEqualTo("foo");
+					assertThat(it.read("$.cursor.size", Long.class)).isEqualTo(2L);
+					assertThat(it.read("$.cursor.next", String.class)).isEqualTo("b2Zmc2V0OjI=");
+				}) //
+				.andBack(EntityModel.class, SimpleAnnotatedPojo.class);
+	}
+
 	/**
 	 * @see #125
 	 */
@@ -428,6 +442,37 @@ class HalJacksonModuleIntegrationTest {
 				.containsKey(IanaLinkRelations.EDIT_FORM.value());
 	}
 
+	@Test
+	void rendersCachedLinkRelationsPerPropertyNamingStrategy() {
+
+		var model = new RepresentationModel<>().add(Link.of("/foo", LinkRelation.of("someSample")));
+		var snakeCaseMapper = mapper.rebuild() //
+				.propertyNamingStrategy(new SnakeCaseStrategy()) //
+				.build();
+
+		Stream.of(mapper, snakeCaseMapper, mapper).forEach(it -> {
+
+			var result = it.writeValueAsString(model);
+
+			assertThat(JsonPath.compile("$._links").<Map<String, Object>> read(result)) //
+					.containsOnlyKeys(it == mapper ? "someSample" : "some_sample");
+		});
+	}
+
+	@Test
+	void rendersCachedCuriedLinkRelationsCaseSensitively() {
+
+		var mapper = getCuriedMapper();
+
+		Stream.of("someRel", "SomeRel").forEach(rel -> {
+
+			var result = mapper.writeValueAsString(new RepresentationModel<>().add(Link.of("/foo", rel)));
+
+			assertThat(JsonPath.compile("$._links").<Map<String, Object>> read(result)) //
+					.containsOnlyKeys("foo:" + rel, "curies");
+		});
+	}
+
 	@Test // #1132
 	void doesNotApplyPropertyNamingStrategyToLinkRelationsIfConfigurationOptsOut() throws Exception {
 
@@ -563,6 +608,15 @@ class HalJacksonModuleIntegrationTest {
 		return PagedModel.of(content, new PageMetadata(2, 0, 4), PAGINATION_LINKS);
 	}
 
+	private static CursorModel<EntityModel<SimpleAnnotatedPojo>> setupAnnotatedCursorModel() {
+
+		var content = List.of(
+				EntityModel.of(new SimpleAnnotatedPojo("test1", 1), Link.of("localhost")),
+				EntityModel.of(new SimpleAnnotatedPojo("test2", 2), Link.of("localhost")));
+
+		return CursorModel.of(content, new CursorMetadata(2, "b2Zmc2V0OjI=", null), PAGINATION_LINKS);
+	}
+
 	private static CollectionModel<EntityModel<SimpleAnnotatedPojo>> setupAnnotatedResources() {
 
 		var content = List.of(
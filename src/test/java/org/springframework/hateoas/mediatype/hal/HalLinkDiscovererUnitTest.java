@@ -18,10 +18,12 @@ package org.springframework.hateoas.mediatype.hal;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.MappingTestUtils;
 import org.springframework.hateoas.MappingTestUtils.ContextualMapper;
 import org.springframework.hateoas.client.LinkDiscovererUnitTest;
@@ -84,6 +86,41 @@ class HalLinkDiscovererUnitTest extends LinkDiscovererUnitTest {
 		});
 	}
 
+	@Test
+	void stopsReadingInputStreamOnceLinksWereInspected() {
+
+		// Truncated _embedded clause would fail a full parse
+		var source = "{ \"_links\" : { \"next\" : { \"href\" : \"/next\" } }, \"_embedded\" : { \"items\" : [ {";
+
+		assertThat(getDiscoverer().findLinkWithRel("next", toStream(source))) //
+				.map(Link::getHref) //
+				.hasValue("/next");
+	}
+
+	@Test
+	void looksUpNestedLinksFromInputStreamLikeFromString() {
+
+		var source = "{ \"_links\" : { \"curies\" : [ { \"next\" : { \"href\" : \"/nested\" } } ] } }";
+
+		assertThat(getDiscoverer().findLinkWithRel("next", toStream(source))) //
+				.map(Link::getHref) //
+				.hasValue("/nested") //
+				.isEqualTo(getDiscoverer().findLinkWithRel("next", source).map(Link::getHref));
+	}
+
+	@Test
+	void findsLinksForMultipleRelationsInSingleParse() {
+
+		var result = getDiscoverer().findLinksWithRels(
+				List.of(IanaLinkRelations.SELF, LinkRelation.of("relation"), LinkRelation.of("unknown")),
+				toStream(getInputString()));
+
+		assertThat(result.get(IanaLinkRelations.SELF)).containsExactly(Link.of("selfHref"));
+		assertThat(result.get(LinkRelation.of("relation"))).extracting(Link::getHref) //
+				.containsExactly("firstHref", "secondHref");
+		assertThat(result.get(LinkRelation.of("unknown"))).isEmpty();
+	}
+
 	@Override
 	protected HalLinkDiscoverer getDiscoverer() {
 		return discoverer;
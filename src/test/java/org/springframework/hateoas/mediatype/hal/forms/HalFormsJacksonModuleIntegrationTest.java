@@ -43,6 +43,7 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.CursorModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
@@ -211,6 +212,24 @@ public class HalFormsJacksonModuleIntegrationTest {
 				.andBack(EntityModel.class, SimpleAnnotatedPojo.class);
 	}
 
+	@Test
+	void serializesCursorModel() {
+
+		var content = List.of(
+				EntityModel.of(new SimpleAnnotatedPojo("test1", 1), Link.of("localhost")),
+				EntityModel.of(new SimpleAnnotatedPojo("test2", 2), Link.of("localhost")));
+
+		var model = CursorModel.of(content, new CursorModel.CursorMetadata(2, "next", "previous"), PAGINATION_LINKS);
+
+		$.assertSerializes(model) //
+				.into(it -> {
+					assertThat(it.read("$._embedded.pojos.length()", Integer.class)).isEqualTo(2);
+					assertThat(it.read("$.cursor.next", String.class)).isEqualTo("next");
+					assertThat(it.read("$.cursor.previous", String.class)).isEqualTo("previous");
+				}) //
+				.andBack(EntityModel.class, SimpleAnnotatedPojo.class);
+	}
+
 	@Test
 	void rendersCuriesCorrectly() {
 
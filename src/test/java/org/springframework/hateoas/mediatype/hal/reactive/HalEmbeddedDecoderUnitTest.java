@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mediatype.hal.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.HypermediaWebClientConfigurer;
+import org.springframework.hateoas.mediatype.hal.HalTestUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.codec.JacksonCodecSupport;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.annotation.JsonView;
+
+/**
+ * Unit tests for {@link HalEmbeddedDecoder}.
+ *
+ * @author agent
+ */
+class HalEmbeddedDecoderUnitTest {
+
+	static final ResolvableType ELEMENT_TYPE = ResolvableType.forClassWithGenerics(EntityModel.class, Person.class);
+
+	static final String COLLECTION = """
+			{
+				"_links" : { "self" : { "href" : "/people?page=0" }, "next" : { "href" : "/people?page=1" } },
+				"_embedded" : {
+					"people" : [
+						{ "name" : "Dave", "_links" : { "self" : { "href" : "/people/1" } } },
+						{ "name" : "Carter", "_links" : { "self" : { "href" : "/people/2" } } }
+					]
+				},
+				"page" : { "size" : 2, "totalElements" : 4, "totalPages" : 2, "number" : 0 }
+			}
+			""";
+
+	static HypermediaWebClientConfigurer configurer;
+
+	HalEmbeddedDecoder decoder = new HalEmbeddedDecoder(HalTestUtils.halMapper());
+
+	@BeforeAll
+	static void setUpConfigurer() {
+
+		try (var context = new AnnotationConfigApplicationContext(HalConfig.class)) {
+			configurer = context.getBean(HypermediaWebClientConfigurer.class);
+		}
+	}
+
+	@Test
+	void supportsRepresentationModelsForHal() {
+
+		assertThat(decoder.canDecode(ELEMENT_TYPE, MediaTypes.HAL_JSON)).isTrue();
+		assertThat(decoder.canDecode(ELEMENT_TYPE, MediaTypes.HAL_FORMS_JSON)).isFalse();
+		assertThat(decoder.canDecode(ResolvableType.forClass(CollectionModel.class), MediaTypes.HAL_JSON)).isFalse();
+		assertThat(decoder.canDecode(ResolvableType.forClass(Person.class), MediaTypes.HAL_JSON)).isFalse();
+	}
+
+	@Test
+	void emitsEmbeddedElementsFromChunkedInput() {
+
+		decoder.decode(chunked(COLLECTION, 7), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.cast(EntityModel.class) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertPerson(it, "Dave", "/people/1")) //
+				.assertNext(it -> assertPerson(it, "Carter", "/people/2")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void exposesEnvelopeToRegisteredConsumer() {
+
+		var envelope = new AtomicReference<CollectionModel<?>>();
+
+		decoder.decode(chunked(COLLECTION, 13), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.contextWrite(HalEmbeddedDecoder.withEnvelopeConsumer(envelope::set)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(envelope.get()).isInstanceOf(PagedModel.class);
+
+		var model = (PagedModel<?>) envelope.get();
+
+		assertThat(model.getContent()).isEmpty();
+		assertThat(model.getNextLink()).map(Link::getHref).hasValue("/people?page=1");
+		assertThat(model.getMetadata()).isEqualTo(new PagedModel.PageMetadata(2, 0, 4, 2));
+	}
+
+	@Test
+	void emitsSingleEmbeddedObjectAndScalars() {
+
+		var source = """
+				{ "_embedded" : { "person" : { "name" : "Dave" }, "people" : [ { "name" : "Carter" } ] } }
+				""";
+
+		decoder.decode(chunked(source, 5), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.cast(EntityModel.class) //
+				.map(it -> ((Person) it.getContent()).name) //
+				.as(StepVerifier::create) //
+				.expectNext("Dave", "Carter") //
+				.verifyComplete();
+	}
+
+	@Test
+	void emitsDocumentWithoutEmbeddedClauseAsSingleElement() {
+
+		var source = """
+				{ "name" : "Dave", "_links" : { "self" : { "href" : "/people/1" } } }
+				""";
+
+		decoder.decode(chunked(source, 3), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.cast(EntityModel.class) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertPerson(it, "Dave", "/people/1")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void emitsNothingForEmptyCollection() {
+
+		var source = """
+				{ "_links" : { "self" : { "href" : "/people" } } }
+				""";
+		var envelope = new AtomicReference<CollectionModel<?>>();
+
+		decoder.decode(chunked(source, 3), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.contextWrite(HalEmbeddedDecoder.withEnvelopeConsumer(envelope::set)) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(envelope.get()).isNotInstanceOf(PagedModel.class);
+		assertThat(envelope.get().getRequiredLink(IanaLinkRelations.SELF).getHref()).isEqualTo("/people");
+	}
+
+	@Test
+	void emitsNothingForEmptyPage() {
+
+		var source = """
+				{
+					"_links" : { "self" : { "href" : "/people?page=2" } },
+					"page" : { "size" : 2, "totalElements" : 4, "totalPages" : 2, "number" : 2 }
+				}
+				""";
+		var envelope = new AtomicReference<CollectionModel<?>>();
+
+		decoder.decode(chunked(source, 7), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.contextWrite(HalEmbeddedDecoder.withEnvelopeConsumer(envelope::set)) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		assertThat(envelope.get()).isInstanceOfSatisfying(PagedModel.class,
+				it -> assertThat(it.getMetadata()).isEqualTo(new PagedModel.PageMetadata(2, 2, 4, 2)));
+	}
+
+	@Test
+	void emitsNothingForNullEmbeddedClause() {
+
+		var source = """
+				{ "_embedded" : null, "_links" : { "self" : { "href" : "/people" } } }
+				""";
+
+		decoder.decode(chunked(source, 5), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+	}
+
+	@Test
+	void emitsElementsOfTopLevelArray() {
+
+		var source = """
+				[ { "name" : "Dave", "_embedded" : { "people" : [ { "name" : "Carter" } ] } }, { "name" : "Oliver" } ]
+				""";
+
+		decoder.decode(chunked(source, 4), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.cast(EntityModel.class) //
+				.map(it -> ((Person) it.getContent()).name) //
+				.as(StepVerifier::create) //
+				.expectNext("Dave", "Oliver") //
+				.verifyComplete();
+	}
+
+	@Test
+	void rejectsScalarDocument() {
+
+		decoder.decode(chunked("\"Dave\"", 4), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.as(StepVerifier::create) //
+				.verifyError(DecodingException.class);
+	}
+
+	@Test
+	void appliesMaxInMemorySizePerElement() {
+
+		decoder.setMaxInMemorySize(COLLECTION.length() / 2);
+
+		decoder.decode(chunked(COLLECTION, 7), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		var source = """
+				{ "_embedded" : { "people" : [ { "name" : "%s" } ] } }
+				""".formatted("Dave".repeat(COLLECTION.length()));
+
+		decoder.decode(chunked(source, 7), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.as(StepVerifier::create) //
+				.verifyError(DataBufferLimitException.class);
+	}
+
+	@Test
+	void appliesMaxInMemorySizeToEnvelope() {
+
+		decoder.setMaxInMemorySize(64);
+
+		var source = """
+				{ "_links" : { "self" : { "href" : "/%s" } }, "_embedded" : { "people" : [ ] } }
+				""".formatted("people".repeat(20));
+
+		decoder.decode(chunked(source, 7), ELEMENT_TYPE, MediaTypes.HAL_JSON, null) //
+				.as(StepVerifier::create) //
+				.verifyError(DataBufferLimitException.class);
+	}
+
+	@Test
+	void appliesJsonViewHint() {
+
+		var source = """
+				{ "_embedded" : { "people" : [ { "name" : "Dave", "email" : "dave@example.com" } ] } }
+				""";
+		var type = ResolvableType.forClassWithGenerics(EntityModel.class, ViewPerson.class);
+
+		decoder.decode(chunked(source, 5), type, MediaTypes.HAL_JSON,
+				Map.of(JacksonCodecSupport.JSON_VIEW_HINT, ViewPerson.Summary.class)) //
+				.cast(EntityModel.class) //
+				.map(EntityModel::getContent) //
+				.cast(ViewPerson.class) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> {
+					assertThat(it.name).isEqualTo("Dave");
+					assertThat(it.email).isNull();
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void hypermediaWebClientDecodesHalDocumentsAsSingleElementByDefault() {
+
+		WebClient client = configurer.registerHypermediaTypes(WebClient.builder()) //
+				.clientConnector(respondingWith(COLLECTION)) //
+				.build();
+
+		client.get().uri("/people") //
+				.retrieve() //
+				.bodyToFlux(new ParameterizedTypeReference<EntityModel<Person>>() {}) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getContent().name).isNull()) //
+				.verifyComplete();
+	}
+
+	@Test
+	void hypermediaWebClientEmitsEmbeddedElementsIfDecoderRegistered() {
+
+		WebClient client = configurer.registerHalEmbeddedDecoder(configurer.registerHypermediaTypes(WebClient.builder())) //
+				.clientConnector(respondingWith(COLLECTION)) //
+				.build();
+
+		client.get().uri("/people") //
+				.retrieve() //
+				.bodyToFlux(new ParameterizedTypeReference<EntityModel<Person>>() {}) //
+				.map(it -> it.getContent().name) //
+				.as(StepVerifier::create) //
+				.expectNext("Dave", "Carter") //
+				.verifyComplete();
+	}
+
+	@Test
+	void hypermediaWebClientAppliesConfiguredMaxInMemorySizeToDecoder() {
+
+		WebClient.Builder builder = WebClient.builder() //
+				.codecs(it -> it.defaultCodecs().maxInMemorySize(32));
+
+		WebClient client = configurer.registerHalEmbeddedDecoder(configurer.registerHypermediaTypes(builder)) //
+				.clientConnector(respondingWith(COLLECTION)) //
+				.build();
+
+		client.get().uri("/people") //
+				.retrieve() //
+				.bodyToFlux(new ParameterizedTypeReference<EntityModel<Person>>() {}) //
+				.as(StepVerifier::create) //
+				.expectErrorSatisfies(it -> assertThat(it).hasRootCauseInstanceOf(DataBufferLimitException.class)) //
+				.verify();
+	}
+
+	private static void assertPerson(EntityModel<?> model, String name, String self) {
+
+		assertThat(model.getContent()).isInstanceOfSatisfying(Person.class, it -> assertThat(it.name).isEqualTo(name));
+		assertThat(model.getRequiredLink(IanaLinkRelations.SELF).getHref()).isEqualTo(self);
+	}
+
+	private static ClientHttpConnector respondingWith(String body) {
+
+		var response = new MockClientHttpResponse(HttpStatus.OK);
+		response.getHeaders().setContentType(MediaTypes.HAL_JSON);
+		response.setBody(body);
+
+		return (method, uri, callback) -> Mono.just(response);
+	}
+
+	private static Flux<DataBuffer> chunked(String source, int chunkSize) {
+
+		var factory = DefaultDataBufferFactory.sharedInstance;
+		byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+		List<DataBuffer> buffers = new ArrayList<>();
+
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+
+			var buffer = factory.allocateBuffer(chunkSize);
+			buffer.write(bytes, i, Math.min(chunkSize, bytes.length - i));
+			buffers.add(buffer);
+		}
+
+		return Flux.fromIterable(buffers);
+	}
+
+	static class Person {
+		public String name;
+	}
+
+	static class ViewPerson {
+
+		interface Summary {}
+
+		@JsonView(Summary.class) public String name;
+		public String email;
+	}
+
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class HalConfig {}
+}
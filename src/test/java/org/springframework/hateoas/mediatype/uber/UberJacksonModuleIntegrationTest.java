@@ -35,6 +35,8 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MappingTestUtils;
 import org.springframework.hateoas.MappingTestUtils.ContextualMapper;
+import org.springframework.hateoas.CursorModel;
+import org.springframework.hateoas.CursorModel.CursorMetadata;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.core.TypeReferences;
@@ -373,6 +375,21 @@ public class UberJacksonModuleIntegrationTest {
 				.andBack();
 	}
 
+	@Test
+	void serializesCursorModel() {
+
+		var employee = new Employee("Frodo", "ring bearer");
+		var employeeResource = EntityModel.of(employee, Link.of("/employees/1").withSelfRel());
+		var model = CursorModel.of(List.of(employeeResource), new CursorMetadata(1, "next", null), PAGINATION_LINKS);
+
+		$.assertSerializes(model) //
+				.into(it -> {
+					assertThat(it.read("$.uber.data[?(@.name == 'cursor')].data[?(@.name == 'next')].value", List.class))
+							.containsExactly("next");
+				}) //
+				.andBack(EntityModel.class, Employee.class);
+	}
+
 	@Test
 	void honorsJsonIgnoresOnDeserialization() {
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+
+/**
+ * Unit tests for {@link AffordanceDemand}.
+ *
+ * @author agent
+ */
+class AffordanceDemandUnitTests {
+
+	@Test
+	void demandsAffordancesByDefault() {
+		assertThat(AffordanceDemand.isDemanded()).isTrue();
+	}
+
+	@Test
+	void derivesDemandFromAcceptedMediaTypes() {
+
+		assertThat(AffordanceDemand.isDemandedFor(Collections.emptyList())).isTrue();
+		assertThat(AffordanceDemand.isDemandedFor(List.of(MediaType.ALL))).isTrue();
+		assertThat(AffordanceDemand.isDemandedFor(List.of(MediaTypes.HAL_JSON, MediaTypes.HAL_FORMS_JSON))).isTrue();
+		assertThat(AffordanceDemand.isDemandedFor(List.of(MediaType.APPLICATION_JSON))).isTrue();
+		assertThat(AffordanceDemand.isDemandedFor(List.of(MediaTypes.HAL_JSON))).isFalse();
+	}
+
+	@Test
+	void explicitDeclarationTakesPrecedenceOverDefault() {
+
+		assertThat(AffordanceDemand.withoutAffordances(() -> AffordanceDemand.withDefault(true,
+				AffordanceDemand::isDemanded))).isFalse();
+
+		assertThat(AffordanceDemand.withDefault(false, () -> AffordanceDemand.withAffordances(
+				AffordanceDemand::isDemanded))).isTrue();
+	}
+
+	@Test
+	void restoresPreviousDemandAfterCallback() {
+
+		AffordanceDemand.withoutAffordances(() -> {
+
+			AffordanceDemand.withAffordances(AffordanceDemand::isDemanded);
+
+			assertThat(AffordanceDemand.isDemanded()).isFalse();
+
+			return null;
+		});
+
+		assertThat(AffordanceDemand.isDemanded()).isTrue();
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.support.HateoasCacheManager;
+
+/**
+ * Unit tests for {@link BaseUriCache}.
+ *
+ * @author agent
+ */
+class BaseUriCacheUnitTests {
+
+	@Test
+	void buildsBaseUriFromComponents() {
+
+		assertThat(BaseUriCache.getBaseUri("https", "example.com", -1, "/context", "/servlet").toUriString())
+				.isEqualTo("https://example.com/context/servlet");
+		assertThat(BaseUriCache.getBaseUri("http", "example.com", 8080, "", "").toUriString())
+				.isEqualTo("http://example.com:8080");
+		assertThat(BaseUriCache.getBaseUri(null, null, -1, "/context", "").toUriString()) //
+				.isEqualTo("/context");
+	}
+
+	@Test
+	void returnsCachedInstanceForSameComponents() {
+
+		assertThat(BaseUriCache.getBaseUri("https", "example.com", -1, "/context", "")) //
+				.isSameAs(BaseUriCache.getBaseUri("https", "example.com", -1, "/context", ""));
+	}
+
+	@Test
+	void boundsCacheForArbitraryHosts() {
+
+		for (int i = 0; i < 100; i++) {
+			BaseUriCache.getBaseUri("https", "host" + i + ".example.com", -1, "", "");
+		}
+
+		assertThat(HateoasCacheManager.getInstance().getStatistics()).hasEntrySatisfying("base-uris", it -> {
+			assertThat(it.getCapacity()).isEqualTo(64);
+			assertThat(it.getSize()).isLessThanOrEqualTo(64);
+		});
+	}
+}
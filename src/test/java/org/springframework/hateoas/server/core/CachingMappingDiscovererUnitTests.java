@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link CachingMappingDiscoverer}.
+ *
+ * @author agent
+ */
+class CachingMappingDiscovererUnitTests {
+
+	@Test
+	void discoversAllMappingInformationOfAMethodOnce() throws Exception {
+
+		MappingDiscoverer delegate = spy(new AnnotationMappingDiscoverer(RequestMapping.class));
+		MappingDiscoverer discoverer = CachingMappingDiscoverer.of(delegate);
+		Method method = SampleController.class.getMethod("method");
+
+		for (int i = 0; i < 2; i++) {
+
+			assertThat(discoverer.getUriMapping(method).getMapping()).isEqualTo("/sample/method");
+			assertThat(discoverer.getRequestMethod(SampleController.class, method)).containsExactly(HttpMethod.POST);
+			assertThat(discoverer.getParams(method)).containsExactly("foo=bar");
+			assertThat(discoverer.getConsumes(method)).containsExactly(MediaType.APPLICATION_JSON);
+		}
+
+		verify(delegate, times(1)).getUriMapping(SampleController.class, method);
+		verify(delegate, times(1)).getRequestMethod(SampleController.class, method);
+		verify(delegate, times(1)).getParams(method);
+		verify(delegate, times(1)).getConsumes(method);
+	}
+
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@PostMapping(path = "/method", params = "foo=bar", consumes = MediaType.APPLICATION_JSON_VALUE)
+		public void method() {}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.hateoas.support.DefaultHateoasCacheManager;
+import org.springframework.hateoas.support.HateoasCacheManager;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Unit tests for {@link HandlerMethodCacheWarmer}.
+ *
+ * @author agent
+ */
+class HandlerMethodCacheWarmerUnitTest {
+
+	@Test
+	void warmsUpCachesForAllHandlerMethods() {
+
+		try (var context = new AnnotationConfigApplicationContext(PersonController.class, OrderController.class,
+				SomeComponent.class)) {
+
+			assertThat(new HandlerMethodCacheWarmer().warmUp(context)).isEqualTo(3);
+		}
+	}
+
+	@Test
+	void warmsUpCachesOnContextRefresh() {
+
+		var counter = new CountingCacheWarmer();
+
+		try (var context = new AnnotationConfigApplicationContext()) {
+
+			context.registerBean(PersonController.class);
+			context.registerBean(HandlerMethodCacheWarmer.class, () -> counter);
+			context.refresh();
+		}
+
+		assertThat(counter.warmedUp.get()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotWarmUpCachesTooSmallForAllHandlerMethods() {
+
+		HateoasCacheManager manager = new DefaultHateoasCacheManager(Map.of("mappings", 2));
+		manager.getCache("mappings", 16, it -> it);
+
+		try (var context = new AnnotationConfigApplicationContext(PersonController.class, OrderController.class)) {
+
+			assertThat(new HandlerMethodCacheWarmer(manager, List.of()).warmUp(context)).isZero();
+		}
+	}
+
+	@RestController
+	@RequestMapping("/people")
+	static class PersonController {
+
+		@GetMapping("/{id}")
+		Object findById(@PathVariable Long id, @RequestParam(required = false) String projection) {
+			return null;
+		}
+
+		@PostMapping
+		Object create(@RequestBody Person person) {
+			return null;
+		}
+
+		void helper() {}
+	}
+
+	@Controller
+	static class OrderController {
+
+		@GetMapping("/orders")
+		Object findAll() {
+			return null;
+		}
+
+		@GetMapping("${orders.base}/{id}")
+		Object findById(@PathVariable Long id) {
+			return null;
+		}
+	}
+
+	static class SomeComponent {
+
+		@GetMapping("/ignored")
+		Object ignored() {
+			return null;
+		}
+	}
+
+	static class Person {
+		public String firstname, lastname;
+	}
+
+	static class CountingCacheWarmer extends HandlerMethodCacheWarmer {
+
+		AtomicInteger warmedUp = new AtomicInteger();
+
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+			warmedUp.addAndGet(warmUp(event.getApplicationContext()));
+		}
+	}
+}
@@ -73,6 +73,61 @@ class LinkBuilderSupportUnitTest extends TestUtils {
 		assertThat(builder.toString()).endsWith("47:11");
 	}
 
+	@Test
+	void appendsPlainPathSegmentsToExistingComponents() {
+
+		UriComponents components = UriComponentsBuilder.fromUriString("http://localhost:8080/api/").build();
+		SampleLinkBuilder builder = new SampleLinkBuilder(components, Collections.emptyList());
+
+		builder = builder.slash("people").slash("/4711//addresses/").slash("foo bar");
+
+		assertThat(builder.toString()).isEqualTo("http://localhost:8080/api/people/4711/addresses/foo%20bar");
+		assertThat(builder.toUri().toString()).isEqualTo(builder.toString());
+		assertThat(builder.slash("bar#baz").toString())
+				.isEqualTo("http://localhost:8080/api/people/4711/addresses/foo%20bar/bar#baz");
+	}
+
+	@Test
+	void appendsPlainPathSegmentsBeforeQueryOfExistingComponents() {
+
+		UriComponents components = UriComponentsBuilder.fromUriString("http://localhost/people?page=1").build();
+		SampleLinkBuilder builder = new SampleLinkBuilder(components, Collections.emptyList());
+
+		assertThat(builder.slash("search").slash("byName").toString())
+				.isEqualTo("http://localhost/people/search/byName?page=1");
+	}
+
+	@Test
+	void handsPendingSegmentsToNewInstance() {
+
+		UriComponents components = UriComponentsBuilder.fromUriString("http://localhost/api").build();
+		SegmentAwareLinkBuilder builder = new SegmentAwareLinkBuilder(components, Collections.emptyList(),
+				Collections.emptyList());
+
+		builder = builder.slash("people").slash("4711");
+
+		assertThat(builder.components).isSameAs(components);
+		assertThat(builder.segments).containsExactly("people", "4711");
+		assertThat(builder.toString()).isEqualTo("http://localhost/api/people/4711");
+	}
+
+	@Test
+	void reusesAppliedSegmentsWhenAddingAffordances() {
+
+		UriComponents components = UriComponentsBuilder.fromUriString("http://localhost/api").build();
+		SegmentAwareLinkBuilder builder = new SegmentAwareLinkBuilder(components, Collections.emptyList(),
+				Collections.emptyList()).slash("people");
+
+		// Applies the pending segments
+		builder.slash("search?name=foo");
+
+		SegmentAwareLinkBuilder result = builder.addAffordances(Collections.emptyList());
+
+		assertThat(result.components.toUriString()).isEqualTo("http://localhost/api/people");
+		assertThat(result.segments).isEmpty();
+		assertThat(result.toString()).isEqualTo("http://localhost/api/people");
+	}
+
 	static class SampleLinkBuilder extends LinkBuilderSupport<SampleLinkBuilder> {
 
 		public SampleLinkBuilder(UriComponents components, List<Affordance> afforances) {
@@ -93,4 +148,34 @@ class LinkBuilderSupportUnitTest extends TestUtils {
 			return new SampleLinkBuilder(components, affordances);
 		}
 	}
+
+	static class SegmentAwareLinkBuilder extends LinkBuilderSupport<SegmentAwareLinkBuilder> {
+
+		final UriComponents components;
+		final List<String> segments;
+
+		SegmentAwareLinkBuilder(UriComponents components, List<Affordance> affordances, List<String> segments) {
+
+			super(components, affordances, segments);
+
+			this.components = components;
+			this.segments = segments;
+		}
+
+		@Override
+		protected SegmentAwareLinkBuilder getThis() {
+			return this;
+		}
+
+		@Override
+		protected SegmentAwareLinkBuilder createNewInstance(UriComponents components, List<Affordance> affordances) {
+			return new SegmentAwareLinkBuilder(components, affordances, Collections.emptyList());
+		}
+
+		@Override
+		protected SegmentAwareLinkBuilder createNewInstance(UriComponents components, List<Affordance> affordances,
+				List<String> segments) {
+			return new SegmentAwareLinkBuilder(components, affordances, segments);
+		}
+	}
 }
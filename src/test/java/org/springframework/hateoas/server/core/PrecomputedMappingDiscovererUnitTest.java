@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link PrecomputedMappingDiscoverer}.
+ *
+ * @author agent
+ */
+class PrecomputedMappingDiscovererUnitTest {
+
+	RawMappingDiscoverer delegate = spy(new AnnotationMappingDiscoverer(RequestMapping.class));
+	PrecomputedMappingDiscoverer discoverer = new PrecomputedMappingDiscoverer(delegate);
+
+	@AfterEach
+	void tearDown() {
+		PrecomputedMappings.clear();
+	}
+
+	@Test
+	void usesRegisteredMetadata() throws Exception {
+
+		Method method = SampleController.class.getDeclaredMethod("sample", Long.class);
+
+		PrecomputedMappings.register(SampleController.class, method, "/precomputed/{id}", new String[] { "PUT" },
+				new String[] { "application/json" }, new String[] { "foo=bar" });
+
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/precomputed/{id}");
+		assertThat(discoverer.getUriMapping(SampleController.class, method).getMapping()).isEqualTo("/precomputed/{id}");
+		assertThat(discoverer.getRequestMethod(SampleController.class, method)).containsExactly(HttpMethod.PUT);
+		assertThat(discoverer.getConsumes(method)).containsExactly(MediaType.APPLICATION_JSON);
+		assertThat(discoverer.getParams(method)).containsExactly("foo=bar");
+
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	void fallsBackToDelegateForUnregisteredMethods() throws Exception {
+
+		Method method = SampleController.class.getDeclaredMethod("sample", Long.class);
+
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/sample/{id}");
+		assertThat(discoverer.getRequestMethod(SampleController.class, method)).containsExactly(HttpMethod.GET);
+
+		verify(delegate).getMapping(SampleController.class, method);
+	}
+
+	@Test
+	void keepsTypeAndMethodRegistrationsApart() throws Exception {
+
+		Method method = SampleController.class.getDeclaredMethod("sample", Long.class);
+
+		PrecomputedMappings.register(SampleController.class, "/precomputed");
+
+		assertThat(discoverer.getUriMapping(SampleController.class).getMapping()).isEqualTo("/precomputed");
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/sample/{id}");
+	}
+
+	@Test
+	void registersUnderDeclaringClass() throws Exception {
+
+		Method method = PrecomputedMappings.findMethod(ExtendedController.class, "sample", "java.lang.Long");
+
+		assertThat(method).isEqualTo(SampleController.class.getDeclaredMethod("sample", Long.class));
+
+		PrecomputedMappings.register(ExtendedController.class, method, "/extended/{id}", new String[] { "GET" },
+				new String[0], new String[0]);
+		PrecomputedMappings.registerForDeclaringClass(method, "/precomputed/{id}", new String[] { "GET" }, new String[0],
+				new String[0]);
+
+		assertThat(discoverer.getMapping(ExtendedController.class, method)).isEqualTo("/extended/{id}");
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/precomputed/{id}");
+	}
+
+	@Test
+	void skipsRegistrationOfUnresolvedMethods() {
+
+		Method method = PrecomputedMappings.findMethod(SampleController.class, "sample", "java.lang.String");
+
+		assertThat(method).isNull();
+		assertThatNoException().isThrownBy(() -> PrecomputedMappings.register(SampleController.class, method,
+				"/precomputed", new String[0], new String[0], new String[0]));
+	}
+
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@GetMapping("/{id}")
+		void sample(Long id) {}
+	}
+
+	@RequestMapping("/extended")
+	static class ExtendedController extends SampleController {}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanInstantiationException;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link RepresentationModelAssemblerSupport}.
+ *
+ * @author agent
+ */
+class RepresentationModelAssemblerSupportUnitTest extends TestUtils {
+
+	@Test
+	void createsModelWithSelfLink() {
+
+		var model = new PersonModelAssembler().toModel(new Person(1L));
+
+		assertThat(model.getRequiredLink(IanaLinkRelations.SELF).getHref()).endsWith("/people/1");
+	}
+
+	@Test
+	void createsModelsWithSelfLinksForAllEntities() {
+
+		var models = new PersonModelAssembler().createModelsWithIds(List.of(new Person(1L), new Person(2L)), Person::id);
+
+		assertThat(models) //
+				.extracting(it -> it.getRequiredLink(IanaLinkRelations.SELF)) //
+				.extracting(Link::getHref) //
+				.containsExactly("http://localhost/people/1", "http://localhost/people/2");
+	}
+
+	@Test
+	void usesBatchConversionForCollectionModel() {
+
+		var assembler = new BatchingPersonModelAssembler();
+		CollectionModel<PersonModel> models = assembler.toCollectionModel(List.of(new Person(1L), new Person(2L)));
+
+		assertThat(assembler.invocations.get()).isEqualTo(1);
+		assertThat(models.getContent()).hasSize(2);
+	}
+
+	@Test
+	void rejectsModelTypeWithoutDefaultConstructor() {
+
+		var assembler = new RepresentationModelAssemblerSupport<Person, ModelWithoutDefaultConstructor>(
+				PersonController.class, ModelWithoutDefaultConstructor.class) {
+
+			@Override
+			public ModelWithoutDefaultConstructor toModel(Person entity) {
+				return createModelWithId(entity.id(), entity);
+			}
+		};
+
+		assertThatExceptionOfType(BeanInstantiationException.class) //
+				.isThrownBy(() -> assembler.toModel(new Person(1L)));
+	}
+
+	@RequestMapping("/people")
+	static class PersonController {}
+
+	record Person(Long id) {}
+
+	static class PersonModel extends RepresentationModel<PersonModel> {}
+
+	static class ModelWithoutDefaultConstructor extends RepresentationModel<ModelWithoutDefaultConstructor> {
+		ModelWithoutDefaultConstructor(String value) {}
+	}
+
+	static class PersonModelAssembler extends RepresentationModelAssemblerSupport<Person, PersonModel> {
+
+		PersonModelAssembler() {
+			super(PersonController.class, PersonModel.class);
+		}
+
+		@Override
+		public PersonModel toModel(Person entity) {
+			return createModelWithId(entity.id(), entity);
+		}
+	}
+
+	static class BatchingPersonModelAssembler extends PersonModelAssembler {
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public List<PersonModel> toModels(Iterable<? extends Person> entities) {
+
+			invocations.incrementAndGet();
+
+			return createModelsWithIds(entities, Person::id);
+		}
+	}
+}
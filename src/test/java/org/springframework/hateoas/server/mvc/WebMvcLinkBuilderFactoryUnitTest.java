@@ -24,6 +24,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
@@ -90,6 +92,35 @@ class WebMvcLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/sample/1?foo=value");
 	}
 
+	@Test
+	void determinesSupportedParametersOncePerHandlerMethod() {
+
+		AtomicInteger invocations = new AtomicInteger();
+		WebMvcLinkBuilderFactory factory = new WebMvcLinkBuilderFactory();
+		factory.setUriComponentsContributors(Collections.singletonList(new SampleUriComponentsContributor() {
+
+			@Override
+			public boolean supportsParameter(MethodParameter parameter) {
+
+				invocations.incrementAndGet();
+
+				return super.supportsParameter(parameter);
+			}
+		}));
+
+		Stream.of("first", "second").forEach(it -> {
+
+			SpecialType specialType = new SpecialType();
+			specialType.parameterValue = it;
+
+			Link link = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel();
+
+			assertThat(link.getHref()).endsWith("/sample/1?foo=" + it);
+		});
+
+		assertThat(invocations.get()).isEqualTo(2);
+	}
+
 	/**
 	 * @see #57
 	 */
@@ -38,19 +38,24 @@ import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.NonComposite;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.server.core.AffordanceDemand;
 import org.springframework.hateoas.server.core.MethodParameters;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilderUnitTest.Sample.SampleConverter;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.MultiValueMap;
@@ -61,6 +66,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriComponents;
@@ -667,6 +673,25 @@ class WebMvcLinkBuilderUnitTest extends TestUtils {
 				.doesNotContain(":", "+");
 	}
 
+	@Test
+	void looksUpConversionServiceOncePerApplicationContext() {
+
+		WebApplicationContext context = mock(WebApplicationContext.class);
+
+		doReturn(true).when(context).containsBean("mvcConversionService");
+		doReturn(new DefaultFormattingConversionService()).when(context).getBean("mvcConversionService",
+				ConversionService.class);
+
+		request.getServletContext().setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+
+		Stream.of(41L, 42L).forEach(it -> {
+			assertThat(linkTo(methodOn(ControllerWithHandlerMethodParameterThatNeedsConversion.class).method(it))
+					.withSelfRel().getHref()).endsWith("/" + it);
+		});
+
+		verify(context, times(1)).getBean("mvcConversionService", ConversionService.class);
+	}
+
 	@Test // #1598
 	void usesRegisteredConverterForCollectionValues() {
 
@@ -762,6 +787,53 @@ class WebMvcLinkBuilderUnitTest extends TestUtils {
 				.isEqualTo("http://localhost/people");
 	}
 
+	@Test
+	void skipsAffordancesIfRequestOnlyAcceptsHal() {
+
+		request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_JSON_VALUE);
+
+		var controller = methodOn(ControllerWithMethods.class);
+
+		assertThat(linkTo(controller.methodWithRequestBody(null)).withSelfRel().getAffordances()).isEmpty();
+		assertThat(afford(controller.methodWithRequestBody(null))).isNotNull();
+	}
+
+	@Test
+	void buildsAffordancesIfRequestAcceptsAffordanceCapableMediaType() {
+
+		request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_FORMS_JSON_VALUE);
+
+		assertThat(linkTo(methodOn(ControllerWithMethods.class).methodWithRequestBody(null)).withSelfRel()
+				.getAffordances()).hasSize(1);
+	}
+
+	@Test
+	void explicitlyDeclaredAffordanceDemandOverridesRequest() {
+
+		request.addHeader(HttpHeaders.ACCEPT, MediaTypes.HAL_FORMS_JSON_VALUE);
+
+		var link = AffordanceDemand.withoutAffordances(
+				() -> linkTo(methodOn(ControllerWithMethods.class).methodWithRequestBody(null)).withSelfRel());
+
+		assertThat(link.getAffordances()).isEmpty();
+	}
+
+	@Test
+	void sharesBaseUriBetweenRequestsToTheSameAddress() {
+
+		UriComponents first = UriComponentsBuilderFactory.getBaseUri();
+
+		setUp();
+
+		assertThat(UriComponentsBuilderFactory.getBaseUri()).isSameAs(first);
+
+		setUp();
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+		adaptRequestFromForwardedHeaders();
+
+		assertThat(UriComponentsBuilderFactory.getBaseUri().toUriString()).isEqualTo("http://somethingDifferent");
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
@@ -25,7 +25,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.junit.jupiter.api.BeforeEach;
@@ -118,6 +121,38 @@ class ReactiveResourceAssemblerUnitTest {
 				}).verifyComplete();
 	}
 
+	@Test
+	void convertsEntitiesInOrderOfSource() {
+
+		var assembler = new DelayingAssembler(Integer.MAX_VALUE);
+		var entities = Flux.just(new Employee("Frodo"), new Employee("Sam"), new Employee("Merry"));
+
+		assembler.toCollectionModel(entities, exchange) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getContent()) //
+						.extracting(EmployeeResource::getEmployee) //
+						.extracting(Employee::getName) //
+						.containsExactly("Frodo", "Sam", "Merry"))
+				.verifyComplete();
+	}
+
+	@Test
+	void limitsConcurrentConversionsToConfiguredConcurrency() {
+
+		var assembler = new DelayingAssembler(2);
+		var names = IntStream.range(0, 10).mapToObj(it -> "Employee " + it).toList();
+		var entities = Flux.fromIterable(names).map(Employee::new);
+
+		assembler.toModels(entities, exchange) //
+				.map(EmployeeResource::getEmployee) //
+				.map(Employee::getName) //
+				.as(StepVerifier::create) //
+				.expectNextSequence(names) //
+				.verifyComplete();
+
+		assertThat(assembler.maxConcurrent.get()).isEqualTo(2);
+	}
+
 	class TestAssembler implements ReactiveRepresentationModelAssembler<Employee, EmployeeResource> {
 
 		@Override
@@ -149,6 +184,39 @@ class ReactiveResourceAssemblerUnitTest {
 		}
 	}
 
+	class DelayingAssembler extends TestAssembler {
+
+		private final int concurrency;
+		private final AtomicInteger invocations = new AtomicInteger();
+		private final AtomicInteger current = new AtomicInteger();
+		private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+		DelayingAssembler(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		@Override
+		public Mono<EmployeeResource> toModel(Employee entity, ServerWebExchange exchange) {
+
+			// Later elements complete earlier to verify ordering is retained
+			var delay = Duration.ofMillis(Math.max(5, 50 - invocations.getAndIncrement() * 5L));
+
+			return Mono.defer(() -> {
+
+				maxConcurrent.accumulateAndGet(current.incrementAndGet(), Math::max);
+
+				return super.toModel(entity, exchange) //
+						.delayElement(delay) //
+						.doOnNext(__ -> current.decrementAndGet());
+			});
+		}
+
+		@Override
+		public int getConcurrency() {
+			return concurrency;
+		}
+	}
+
 	@Data
 	@AllArgsConstructor
 	class Employee {
@@ -33,9 +33,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.LinkContext;
 import org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.WebFluxLink;
 import org.springframework.http.HttpEntity;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -239,6 +242,56 @@ class WebFluxLinkBuilderTest {
 		});
 	}
 
+	@Test
+	void buildsLinksSynchronouslyUsingLinkContext() {
+
+		MockServerWebExchange exchange = MockServerWebExchange
+				.from(MockServerHttpRequest.get("http://localhost:8080/context/api").contextPath("/context"));
+
+		LinkContext context = linkContext(exchange);
+
+		assertThat(linkContext(exchange)).isSameAs(context);
+		assertThat(context.linkTo(methodOn(TestController.class).root()).withSelfRel().getHref())
+				.isEqualTo("http://localhost:8080/context/api");
+		assertThat(context.linkTo(methodOn(TestController.class).deep()).slash("foo").withSelfRel().getHref())
+				.isEqualTo("http://localhost:8080/context/api/employees/foo");
+	}
+
+	@Test
+	void resolvesLinkContextFromReactorContext() {
+
+		MockServerWebExchange exchange = MockServerWebExchange
+				.from(MockServerHttpRequest.get("http://localhost:8080/api"));
+
+		linkContext() //
+				.map(it -> it.linkTo(methodOn(TestController.class).deep()).withSelfRel()) //
+				.contextWrite(Context.of(EXCHANGE_CONTEXT_ATTRIBUTE, exchange)) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getHref()).isEqualTo("http://localhost:8080/api/employees")) //
+				.verifyComplete();
+
+		linkContext() //
+				.map(it -> it.linkTo(methodOn(TestController.class).deep()).withSelfRel()) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getHref()).isEqualTo("/api/employees")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void addsExplicitlyRequestedAffordanceForRequestsNotDemandingAffordances() {
+
+		MockServerWebExchange exchange = MockServerWebExchange
+				.from(MockServerHttpRequest.get("http://localhost:8080/api").accept(MediaTypes.HAL_JSON));
+
+		linkTo(methodOn(TestController.class).root()).withSelfRel() //
+				.andAffordance(methodOn(TestController.class).deep()) //
+				.toMono() //
+				.contextWrite(Context.of(EXCHANGE_CONTEXT_ATTRIBUTE, exchange)) //
+				.as(StepVerifier::create) //
+				.assertNext(it -> assertThat(it.getAffordances()).hasSize(1)) //
+				.verifyComplete();
+	}
+
 	private void verify(@Nullable MockServerHttpRequest request, WebFluxLink link, Consumer<Link> verifications) {
 
 		Mono<Link> mono = link.toMono();
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.server.core.SpringAffordanceBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link DefaultHateoasCacheManager}.
+ *
+ * @author agent
+ */
+class DefaultHateoasCacheManagerUnitTests {
+
+	@Test
+	void recordsHitsMissesAndEvictions() {
+
+		var manager = new DefaultHateoasCacheManager(Map.of("sample", 2));
+		HateoasCache<Integer, String> cache = manager.getCache("sample", 16, String::valueOf);
+
+		cache.get(1);
+		cache.get(1);
+		cache.get(2);
+		cache.get(3);
+
+		assertThat(manager.getStatistics()).hasEntrySatisfying("sample", it -> {
+
+			assertThat(it.getHitCount()).isEqualTo(1);
+			assertThat(it.getMissCount()).isEqualTo(3);
+			assertThat(it.getEvictionCount()).isEqualTo(1);
+			assertThat(it.getSize()).isEqualTo(2);
+			assertThat(it.getHitRate()).isEqualTo(0.25);
+			assertThat(it.getCapacity()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void cachesNullValues() {
+
+		var invocations = new AtomicInteger();
+		HateoasCache<String, String> cache = new DefaultHateoasCacheManager().getCache("nulls", 16, __ -> {
+			invocations.incrementAndGet();
+			return null;
+		});
+
+		assertThat(cache.get("key")).isNull();
+		assertThat(cache.get("key")).isNull();
+		assertThat(invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	void clearedEntriesDoNotCountAsEvictions() {
+
+		HateoasCache<Integer, String> cache = new DefaultHateoasCacheManager().getCache("sample", 16, String::valueOf);
+
+		cache.get(1);
+		cache.get(2);
+		cache.clear();
+
+		assertThat(cache.getStatistics().getSize()).isZero();
+		assertThat(cache.getStatistics().getEvictionCount()).isZero();
+	}
+
+	@Test
+	void usesCapacityConfiguredViaSystemProperty() {
+
+		var property = DefaultHateoasCacheManager.CAPACITY_PROPERTY.formatted("configured");
+
+		System.setProperty(property, "1");
+
+		try {
+
+			HateoasCache<Integer, String> cache = new DefaultHateoasCacheManager().getCache("configured", 16,
+					String::valueOf);
+
+			cache.get(1);
+			cache.get(2);
+
+			assertThat(cache.getStatistics().getSize()).isEqualTo(1);
+			assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+
+		} finally {
+			System.clearProperty(property);
+		}
+	}
+
+	@Test
+	void doesNotBoundCachesByDefault() {
+
+		HateoasCache<Integer, String> cache = new DefaultHateoasCacheManager().getCache("sample", 1, String::valueOf);
+
+		for (int i = 0; i < 100; i++) {
+			cache.get(i);
+		}
+
+		assertThat(cache.getStatistics().isBounded()).isFalse();
+		assertThat(cache.getStatistics().getCapacity()).isEqualTo(-1);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(100);
+		assertThat(cache.getStatistics().getEvictionCount()).isZero();
+	}
+
+	@Test
+	void boundsCachesRequestedAsBounded() {
+
+		HateoasCache<Integer, String> cache = new DefaultHateoasCacheManager().getBoundedCache("bounded", 2,
+				String::valueOf);
+
+		for (int i = 0; i < 100; i++) {
+			cache.get(i);
+		}
+
+		assertThat(cache.getStatistics().isBounded()).isTrue();
+		assertThat(cache.getStatistics().getCapacity()).isEqualTo(2);
+		assertThat(cache.getStatistics().getSize()).isEqualTo(2);
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(98);
+	}
+
+	@Test
+	void configuredCapacityOverridesDefaultCapacityOfBoundedCache() {
+
+		HateoasCache<Integer, String> cache = new DefaultHateoasCacheManager(Map.of("bounded", 8)) //
+				.getBoundedCache("bounded", 2, String::valueOf);
+
+		assertThat(cache.getStatistics().getCapacity()).isEqualTo(8);
+	}
+
+	@Test
+	void returnsSameCacheForSameName() {
+
+		var manager = new DefaultHateoasCacheManager();
+		HateoasCache<Integer, String> first = manager.getCache("sample", 16, String::valueOf);
+		HateoasCache<Integer, String> second = manager.getCache("sample", 16, it -> "other");
+
+		assertThat(second).isSameAs(first);
+
+		second.get(1);
+
+		assertThat(first.get(1)).isEqualTo("1");
+		assertThat(manager.getStatistics()).hasEntrySatisfying("sample", it -> {
+			assertThat(it.getMissCount()).isEqualTo(1);
+			assertThat(it.getHitCount()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void exposesStatisticsOfLibraryCaches() throws Exception {
+
+		SpringAffordanceBuilder.getUriMapping(SampleController.class, SampleController.class.getMethod("method"));
+
+		assertThat(HateoasCacheManager.getInstance().getStatistics()).containsKeys("mappings", "affordances") //
+				.hasEntrySatisfying("affordances", it -> assertThat(it.getCapacity()).isEqualTo(256));
+	}
+
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@GetMapping("/method")
+		public void method() {}
+	}
+}
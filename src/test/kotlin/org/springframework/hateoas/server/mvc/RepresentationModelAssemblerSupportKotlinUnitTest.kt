@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.server.mvc
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.springframework.hateoas.RepresentationModel
+import org.springframework.hateoas.TestUtils
+import org.springframework.web.bind.annotation.RequestMapping
+
+/**
+ * Unit tests for [RepresentationModelAssemblerSupport] with Kotlin model types.
+ *
+ * @author agent
+ */
+class RepresentationModelAssemblerSupportKotlinUnitTest : TestUtils() {
+
+    @Test
+    fun `instantiates model using primary constructor with default values`() {
+
+        val assembler = object : RepresentationModelAssemblerSupport<Person, PersonModel>(
+            PersonController::class.java, PersonModel::class.java) {
+
+            override fun toModel(entity: Person): PersonModel = createModelWithId(entity.id, entity)
+        }
+
+        val models = assembler.toModels(listOf(Person(1L), Person(2L)))
+
+        assertThat(models).hasSize(2)
+        assertThat(models.map { it.name }).containsOnly("default")
+        assertThat(models[0].getRequiredLink("self").href).endsWith("/people/1")
+    }
+
+    @RequestMapping("/people")
+    class PersonController
+
+    data class Person(val id: Long)
+
+    class PersonModel(val name: String = "default", val rank: UInt = 1u) : RepresentationModel<PersonModel>()
+}
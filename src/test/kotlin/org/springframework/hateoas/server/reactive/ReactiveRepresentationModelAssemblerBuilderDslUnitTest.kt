@@ -17,6 +17,7 @@ package org.springframework.hateoas.server.reactive
 
 import io.mockk.mockk
 import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.toList
 import kotlinx.coroutines.runBlocking
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
@@ -71,6 +72,19 @@ class ReactiveRepresentationModelAssemblerBuilderDslUnitTest : TestUtils() {
         }
     }
 
+    @Test
+    fun `Kotlin co-routine should render models as Flow in order of the source`() {
+
+        val testResourceAssembler = TestResourceAssembler()
+        val exchange = mockk<ServerWebExchange>()
+
+        runBlocking {
+            val models = testResourceAssembler.toModelsAsFlow(employees, exchange).toList()
+
+            assertThat(models.map { it.content.name }).containsExactly("Frodo", "Bilbo")
+        }
+    }
+
     class TestResourceAssembler : ReactiveRepresentationModelAssembler<Employee, EntityModel<Employee>> {
 
         override fun toModel(entity: Employee, exchange: ServerWebExchange): Mono<EntityModel<Employee>> {